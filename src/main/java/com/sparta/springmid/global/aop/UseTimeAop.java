@@ -3,7 +3,6 @@ package com.sparta.springmid.global.aop;
 
 import com.sparta.springmid.global.security.CustomUserDetails;
 import com.sparta.springmid.product.model.ApiUseTime;
-import com.sparta.springmid.product.model.User;
 import com.sparta.springmid.product.repository.ApiUseTimeRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -58,21 +57,21 @@ public class UseTimeAop {
             // 로그인 회원이 없는 경우, 수행시간 기록하지 않음
             Authentication auth = SecurityContextHolder.getContext().getAuthentication();
             if (auth != null && auth.getPrincipal().getClass() == CustomUserDetails.class) {
-                // 로그인 회원 정보
+                // 로그인 회원 정보 (User 엔티티는 기록이 없을 때만 조회)
                 CustomUserDetails userDetails = (CustomUserDetails) auth.getPrincipal();
-                User loginUser = userDetails.getUser();
 
                 // API 사용시간 및 DB 에 기록
-                ApiUseTime apiUseTime = apiUseTimeRepository.findByUser(loginUser).orElse(null);
+                ApiUseTime apiUseTime = apiUseTimeRepository.findByUserId(userDetails.getId())
+                        .orElse(null);
                 if (apiUseTime == null) {
                     // 로그인 회원의 기록이 없으면
-                    apiUseTime = new ApiUseTime(loginUser, runTime);
+                    apiUseTime = new ApiUseTime(userDetails.getUser(), runTime);
                 } else {
                     // 로그인 회원의 기록이 이미 있으면
                     apiUseTime.addUseTime(runTime);
                 }
 
-                log.info("[API Use Time] Username: " + loginUser.getUsername() + ", Total Time: "
+                log.info("[API Use Time] Username: " + userDetails.getUsername() + ", Total Time: "
                         + apiUseTime.getTotalTime() + " ms");
                 apiUseTimeRepository.save(apiUseTime);
             }
@@ -1,5 +1,7 @@
 package com.sparta.springmid.global.config;
 
+import com.sparta.springmid.product.model.MailOutbox;
+import com.sparta.springmid.product.repository.MailOutboxRepository;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.InternetAddress;
 import jakarta.mail.internet.MimeMessage;
@@ -9,6 +11,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * 메일 보내는 방식을 담고있는 클래스
@@ -28,24 +31,37 @@ public class MailManager {
     @Autowired
     private JavaMailSender mailSender;
 
+    /**
+     * @Autowired 메일 outbox 레포지토리
+     */
+    @Autowired
+    private MailOutboxRepository mailOutboxRepository;
+
     /**
      * 메일 보내는 메서드
+     * 호출한 쪽의 트랜잭션 안에서 outbox 에 저장만 하고, 실제 전송은 {@link MailOutboxWorker} 가 처리합니다.
      *
      * @String value 보낼 제목과 내용을 매개변수로 받음
      */
+    @Transactional
     public void send(String toMail, String title, String content) {
+        mailOutboxRepository.save(new MailOutbox(toMail, title, content));
+    }
+
+    /**
+     * outbox 에 저장된 메일로 전송할 메세지를 만드는 메서드
+     *
+     * @param mail outbox 메일
+     * @return 전송할 메세지
+     */
+    public MimeMessage createMessage(MailOutbox mail)
+            throws MessagingException, UnsupportedEncodingException {
         MimeMessage mimeMessage = mailSender.createMimeMessage();
-        try {
-            MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, true, "utf-8");
-            helper.setFrom(new InternetAddress(sender, "하지만없죠"));
-            helper.setTo(toMail);
-            helper.setSubject(title);
-            helper.setText(content);
-            mailSender.send(mimeMessage);
-        } catch (MessagingException e) {
-            e.printStackTrace();
-        } catch (UnsupportedEncodingException e) {
-            throw new RuntimeException(e);
-        }
+        MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, true, "utf-8");
+        helper.setFrom(new InternetAddress(sender, "하지만없죠"));
+        helper.setTo(mail.getToAddress());
+        helper.setSubject(mail.getSubject());
+        helper.setText(mail.getContent());
+        return mimeMessage;
     }
 }
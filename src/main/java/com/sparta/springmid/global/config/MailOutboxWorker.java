@@ -0,0 +1,181 @@
+package com.sparta.springmid.global.config;
+
+import com.sparta.springmid.global.enums.MailStatusEnum;
+import com.sparta.springmid.product.model.MailOutbox;
+import com.sparta.springmid.product.repository.MailOutboxRepository;
+import jakarta.mail.internet.MimeMessage;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 메일 outbox 를 비우는 백그라운드 작업
+ * <p>
+ * 전송할 차례가 된 메일을 묶음으로 가져와 SMTP 연결 한 번으로 보내고, 실패한 메일은 간격을 늘려가며 재시도합니다.
+ * SMTP 서버가 느리거나 응답하지 않아도 DB 연결과 행 잠금을 붙잡지 않도록 세 단계로 나눕니다.
+ * <ol>
+ *     <li>짧은 트랜잭션에서 메일을 잠가 SENDING 으로 바꾸고 lease-ms 뒤를 기한으로 적은 뒤 바로 커밋합니다.</li>
+ *     <li>트랜잭션 밖에서 전송합니다.</li>
+ *     <li>다시 짧은 트랜잭션에서 결과를 기록합니다.</li>
+ * </ol>
+ * 작업자가 전송 도중 종료되어 결과를 기록하지 못한 메일은 기한이 지나면 다시 전송 대상이 됩니다.
+ */
+@Slf4j(topic = "MailOutboxWorker")
+@Component
+public class MailOutboxWorker {
+
+    private static final List<MailStatusEnum> DUE_STATUSES =
+            List.of(MailStatusEnum.PENDING, MailStatusEnum.SENDING);
+
+    private final MailOutboxRepository mailOutboxRepository;
+    private final MailManager mailManager;
+    private final JavaMailSender mailSender;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long backoffMillis;
+    private final Duration lease;
+
+    public MailOutboxWorker(MailOutboxRepository mailOutboxRepository, MailManager mailManager,
+            JavaMailSender mailSender, TransactionTemplate transactionTemplate,
+            @Value("${mail.outbox.batch-size:50}") int batchSize,
+            @Value("${mail.outbox.max-attempts:5}") int maxAttempts,
+            @Value("${mail.outbox.backoff-ms:5000}") long backoffMillis,
+            @Value("${mail.outbox.lease-ms:300000}") long leaseMillis) {
+        this.mailOutboxRepository = mailOutboxRepository;
+        this.mailManager = mailManager;
+        this.mailSender = mailSender;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.backoffMillis = backoffMillis;
+        this.lease = Duration.ofMillis(leaseMillis);
+    }
+
+    /**
+     * 보낼 메일이 남아있는 동안 묶음 단위로 전송
+     */
+    @Scheduled(fixedDelayString = "${mail.outbox.poll-interval-ms:1000}")
+    public void drain() {
+        List<MailOutbox> batch;
+        do {
+            batch = claimBatch();
+            if (!batch.isEmpty()) {
+                record(send(batch));
+            }
+        } while (batch.size() == batchSize);
+    }
+
+    /**
+     * 전송할 메일을 SENDING 으로 바꾸고 커밋합니다. 행 잠금은 이 트랜잭션 동안만 유지됩니다.
+     */
+    private List<MailOutbox> claimBatch() {
+        List<MailOutbox> batch = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<MailOutbox> due = mailOutboxRepository.findDueForUpdate(DUE_STATUSES, now,
+                    PageRequest.of(0, batchSize));
+            LocalDateTime leaseUntil = now.plus(lease);
+            due.forEach(mail -> mail.claim(leaseUntil));
+            return due;
+        });
+        return batch == null ? List.of() : batch;
+    }
+
+    /**
+     * 트랜잭션 밖에서 전송합니다.
+     *
+     * @return 메일마다의 전송 결과
+     */
+    private List<SendResult> send(List<MailOutbox> batch) {
+        List<SendResult> results = new ArrayList<>(batch.size());
+        List<MailOutbox> prepared = new ArrayList<>(batch.size());
+        List<MimeMessage> messages = new ArrayList<>(batch.size());
+        for (MailOutbox mail : batch) {
+            try {
+                messages.add(mailManager.createMessage(mail));
+                prepared.add(mail);
+            } catch (Exception e) {
+                // 메세지를 만들 수 없는 메일은 재시도해도 같으므로 바로 실패 처리
+                results.add(new SendResult(mail.getId(), e.getMessage(), 1));
+            }
+        }
+        if (messages.isEmpty()) {
+            return results;
+        }
+
+        Map<Object, Exception> failures = Map.of();
+        try {
+            // JavaMailSender 는 한 번의 호출에 넘긴 메세지를 하나의 연결로 보냅니다.
+            mailSender.send(messages.toArray(new MimeMessage[0]));
+        } catch (MailSendException e) {
+            failures = e.getFailedMessages();
+            if (failures.isEmpty()) {
+                failures = allFailed(messages, e);
+            }
+        } catch (MailException e) {
+            failures = allFailed(messages, e);
+        }
+
+        for (int i = 0; i < prepared.size(); i++) {
+            Exception failure = failures.get(messages.get(i));
+            results.add(new SendResult(prepared.get(i).getId(),
+                    failure == null ? null : failure.getMessage(), maxAttempts));
+        }
+        log.info("mail outbox batch processed: {} sent, {} failed",
+                prepared.size() - failures.size(), failures.size());
+        return results;
+    }
+
+    /**
+     * 전송 결과를 기록합니다. 기한이 지나 이미 다른 작업자가 결과를 기록한 메일은 건너뜁니다.
+     */
+    private void record(List<SendResult> results) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Map<Long, MailOutbox> mails = mailOutboxRepository.findAllById(
+                            results.stream().map(SendResult::id).toList())
+                    .stream().collect(Collectors.toMap(MailOutbox::getId, Function.identity()));
+            for (SendResult result : results) {
+                MailOutbox mail = mails.get(result.id());
+                if (mail == null || mail.getStatus() != MailStatusEnum.SENDING) {
+                    continue;
+                }
+                if (result.error() == null) {
+                    mail.markSent();
+                } else {
+                    mail.markFailed(result.error(), result.maxAttempts(), backoffMillis);
+                    log.warn("mail {} failed (attempt {}): {}", mail.getId(),
+                            mail.getAttempts(), result.error());
+                }
+            }
+        });
+    }
+
+    private Map<Object, Exception> allFailed(List<MimeMessage> messages, Exception e) {
+        Map<Object, Exception> failures = new IdentityHashMap<>();
+        messages.forEach(message -> failures.put(message, e));
+        return failures;
+    }
+
+    /**
+     * @param id          메일 고유번호
+     * @param error       실패 사유, 전송에 성공했으면 null
+     * @param maxAttempts 실패 시 적용할 최대 시도 횟수
+     */
+    private record SendResult(Long id, String error, int maxAttempts) {
+
+    }
+}
@@ -0,0 +1,36 @@
+package com.sparta.springmid.global.config;
+
+import org.springframework.boot.task.ThreadPoolTaskSchedulerBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+@Configuration // 아래 설정을 등록하여 활성화 합니다.
+@EnableScheduling // @Scheduled 백그라운드 작업을 실행할 수 있도록 합니다.
+public class SchedulingConfig {
+
+    /**
+     * 기본 스케줄러, 짧게 끝나는 주기 작업(메일 발송, 조회수 반영, 만료 정리 등)이 함께 씁니다.
+     * <p>
+     * 스레드 수는 spring.task.scheduling.pool.size 로 정합니다. 아래에서 스케줄러를 하나 더 등록하면 자동 설정이 빠지므로 직접 등록합니다.
+     */
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(ThreadPoolTaskSchedulerBuilder builder) {
+        return builder.build();
+    }
+
+    /**
+     * 삭제된 글 보관 작업 전용 스케줄러
+     * <p>
+     * 보관 작업은 묶음 사이에 쉬어 가며 오래 돌기 때문에 기본 스케줄러를 쓰면 그동안 다른 주기 작업이 밀립니다.
+     * 종료 시에는 기다리지 않고 인터럽트하므로 작업은 다음 묶음 전에 멈추고, 다음 실행이 체크포인트부터 이어갑니다.
+     */
+    @Bean
+    public ThreadPoolTaskScheduler archiveScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("archive-");
+        return scheduler;
+    }
+}
@@ -0,0 +1,25 @@
+package com.sparta.springmid.global.config;
+
+import com.sparta.springmid.global.verification.InMemoryVerificationCodeStore;
+import com.sparta.springmid.global.verification.VerificationCodeStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class VerificationConfig {
+
+    /**
+     * 기본 인증번호 저장소, 다른 {@link VerificationCodeStore} 빈을 등록하면 그쪽을 사용합니다.
+     */
+    @Bean
+    @ConditionalOnMissingBean(VerificationCodeStore.class)
+    public InMemoryVerificationCodeStore verificationCodeStore(
+            @Value("${mail.verification.ttl-seconds:300}") long ttlSeconds,
+            @Value("${mail.verification.tick-millis:1000}") long tickMillis,
+            @Value("${mail.verification.max-entries:100000}") int maxEntries,
+            @Value("${mail.verification.max-attempts:5}") int maxAttempts) {
+        return new InMemoryVerificationCodeStore(ttlSeconds, tickMillis, maxEntries, maxAttempts);
+    }
+}
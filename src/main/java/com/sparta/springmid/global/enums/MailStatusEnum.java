@@ -0,0 +1,12 @@
+package com.sparta.springmid.global.enums;
+
+/**
+ * 메일 outbox 전송 상태
+ */
+public enum MailStatusEnum {
+    PENDING,
+    // 작업자가 가져가 전송 중, next_attempt_at 이 지나도록 결과가 기록되지 않으면 다시 전송 대상이 됩니다.
+    SENDING,
+    SENT,
+    FAILED
+}
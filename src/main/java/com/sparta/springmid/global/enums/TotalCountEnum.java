@@ -0,0 +1,28 @@
+package com.sparta.springmid.global.enums;
+
+/**
+ * 목록 조회 시 전체 개수 포함 방식
+ * NONE : 전체 개수 없이 다음 페이지 여부만 반환 (기본값)
+ * EXACT : COUNT 쿼리로 구한 정확한 개수
+ * APPROX : 주기적으로 갱신되는 메모리의 추정치
+ */
+public enum TotalCountEnum {
+    NONE,
+    EXACT,
+    APPROX;
+
+    /**
+     * 요청 파라미터 값으로 변환, 알 수 없는 값이면 IllegalArgumentException
+     *
+     * @param value none, exact, approx
+     * @return
+     */
+    public static TotalCountEnum from(String value) {
+        for (TotalCountEnum mode : values()) {
+            if (mode.name().equalsIgnoreCase(value)) {
+                return mode;
+            }
+        }
+        throw new IllegalArgumentException("total 은 none, exact, approx 중 하나여야 합니다.");
+    }
+}
@@ -0,0 +1,11 @@
+package com.sparta.springmid.global.enums;
+
+/**
+ * 이메일 인증번호 검증 결과
+ */
+public enum VerificationResultEnum {
+    VERIFIED,
+    MISMATCH,
+    NOT_FOUND,
+    TOO_MANY_ATTEMPTS
+}
@@ -0,0 +1,11 @@
+package com.sparta.springmid.global.exception;
+
+/**
+ * 처리 대기열이 가득 차 요청을 바로 거절할 때 발생합니다.
+ */
+public class ServiceBusyException extends RuntimeException {
+
+    public ServiceBusyException(String message) {
+        super(message);
+    }
+}
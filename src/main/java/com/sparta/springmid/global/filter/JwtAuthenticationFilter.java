@@ -2,6 +2,7 @@ package com.sparta.springmid.global.filter;
 
 
 import com.sparta.springmid.global.enums.AuthEnum;
+import com.sparta.springmid.global.jwt.TokenClaims;
 import com.sparta.springmid.global.jwt.TokenProvider;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -42,12 +43,17 @@ public class JwtAuthenticationFilter extends GenericFilterBean {
         String token = resolveToken((HttpServletRequest) request);
 
         /**
-         *  validateToken 으로 토큰 유효성 검사
-         *  토큰이 유효할 경우 토큰에서 Authentication 객체를 가지고 와서 SecurityContext 에 저장
+         *  verifyToken 으로 토큰 유효성 검사 (검증과 파싱을 한 번에 처리)
+         *  토큰이 유효할 경우 Claims 에서 Authentication 객체를 가지고 와서 SecurityContext 에 저장
          */
-        if (token != null && jwtTokenProvider.validateToken(token)) {
-            Authentication authentication = jwtTokenProvider.getAuthentication(token);
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+        if (token != null) {
+            TokenClaims claims = jwtTokenProvider.verifyToken(token);
+            if (claims != null) {
+                Authentication authentication = jwtTokenProvider.getAuthentication(claims);
+                if (authentication != null) {
+                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                }
+            }
         }
         chain.doFilter(request, response);
     }
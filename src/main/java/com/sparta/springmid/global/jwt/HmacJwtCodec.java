@@ -0,0 +1,630 @@
+package com.sparta.springmid.global.jwt;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.SignatureException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.crypto.Mac;
+import javax.crypto.ShortBufferException;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * HS256 전용 토큰 서명/검증기
+ * <p>
+ * 우리 토큰은 알고리즘과 클레임 구성이 고정되어 있으므로 범용 jjwt 빌더/파서 대신 필요한 만큼만 직접 처리합니다.
+ * <ul>
+ *     <li>Mac 은 키마다 스레드별로 하나씩 만들어 재사용합니다.</li>
+ *     <li>헤더 세그먼트는 키마다 미리 인코딩해 두고, 페이로드와 서명은 스레드별 버퍼에 바로 Base64URL 로 씁니다.</li>
+ *     <li>헤더의 kid 로 서명 키를 고르므로 키를 교체해도 이전 키로 발급된 토큰을 만료까지 검증할 수 있습니다.</li>
+ * </ul>
+ * kid 가 없으면 헤더는 jjwt 와 같은 {"alg":"HS256"} 이므로 기존 토큰과 그대로 호환됩니다.
+ * 예외도 jjwt 와 같은 타입을 던져 호출하는 쪽의 처리 방식을 바꾸지 않습니다.
+ */
+public class HmacJwtCodec {
+
+    private static final String ALGORITHM = "HS256";
+    private static final String MAC_ALGORITHM = "HmacSHA256";
+    private static final int SIGNATURE_LENGTH = 32;
+    private static final int ENCODED_SIGNATURE_LENGTH = 43;
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final byte[] DECODE_TABLE = new byte[128];
+
+    private static final ThreadLocal<Buffers> BUFFERS = ThreadLocal.withInitial(Buffers::new);
+
+    static {
+        Arrays.fill(DECODE_TABLE, (byte) -1);
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+        for (int i = 0; i < alphabet.length(); i++) {
+            DECODE_TABLE[alphabet.charAt(i)] = (byte) i;
+        }
+    }
+
+    private final SigningKey activeKey;
+    private final Map<String, SigningKey> keysById = new LinkedHashMap<>();
+
+    /**
+     * kid 없이 발급된 토큰을 검증할 때 시도할 키, 현재 키가 먼저 옵니다.
+     */
+    private final List<SigningKey> keysWithoutId = new ArrayList<>();
+
+    /**
+     * 생성자 매서드
+     *
+     * @param activeKeyId  새 토큰에 넣을 kid, 비어 있으면 kid 없이 발급
+     * @param activeKey    새 토큰을 서명할 키
+     * @param previousKeys 검증에만 쓰는 이전 키 (kid → 키)
+     */
+    public HmacJwtCodec(String activeKeyId, byte[] activeKey, Map<String, byte[]> previousKeys) {
+        this.activeKey = new SigningKey(blankToNull(activeKeyId), activeKey);
+        register(this.activeKey);
+        previousKeys.forEach((keyId, key) -> register(new SigningKey(blankToNull(keyId), key)));
+    }
+
+    private void register(SigningKey key) {
+        if (key.keyId != null) {
+            keysById.putIfAbsent(key.keyId, key);
+        }
+        // kid 를 붙이기 전에 발급된 토큰도 검증할 수 있도록 모든 키를 kid 없는 헤더의 후보로 둡니다.
+        keysWithoutId.add(key);
+    }
+
+    /**
+     * 토큰 서명
+     *
+     * @param claims 토큰에 담을 클레임
+     * @return header.payload.signature 형태의 토큰
+     */
+    public String sign(TokenClaims claims) {
+        Buffers buffers = BUFFERS.get();
+        byte[] payload = writePayload(claims, buffers.json).getBytes(StandardCharsets.UTF_8);
+
+        byte[] header = activeKey.header;
+        int payloadLength = encodedLength(payload.length);
+        int signingLength = header.length + 1 + payloadLength;
+        byte[] out = new byte[signingLength + 1 + ENCODED_SIGNATURE_LENGTH];
+
+        System.arraycopy(header, 0, out, 0, header.length);
+        out[header.length] = '.';
+        byte[] encoded = buffers.encoded(payloadLength);
+        ENCODER.encode(payload, encoded);
+        System.arraycopy(encoded, 0, out, header.length + 1, payloadLength);
+        out[signingLength] = '.';
+
+        activeKey.sign(out, signingLength, buffers.signature);
+        ENCODER.encode(buffers.signature, buffers.encodedSignature);
+        System.arraycopy(buffers.encodedSignature, 0, out, signingLength + 1,
+                ENCODED_SIGNATURE_LENGTH);
+        return new String(out, StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * 토큰 서명 검증 후 클레임 반환
+     *
+     * @param token     접두사를 제거한 토큰
+     * @param nowMillis 만료 판단 기준 시각
+     * @return 검증된 클레임
+     * @throws MalformedJwtException    토큰 형식이 잘못된 경우
+     * @throws UnsupportedJwtException  HS256 서명 토큰이 아닌 경우
+     * @throws SignatureException       서명이 일치하지 않는 경우
+     * @throws ExpiredJwtException      만료된 경우
+     * @throws IllegalArgumentException 토큰이 비어 있는 경우
+     */
+    public TokenClaims verify(String token, long nowMillis) {
+        if (token == null || token.isEmpty()) {
+            throw new IllegalArgumentException("JWT String argument cannot be null or empty.");
+        }
+        int headerEnd = token.indexOf('.');
+        int payloadEnd = headerEnd < 0 ? -1 : token.indexOf('.', headerEnd + 1);
+        if (payloadEnd < 0 || token.indexOf('.', payloadEnd + 1) >= 0) {
+            throw new MalformedJwtException("JWT strings must contain exactly 2 period characters.");
+        }
+        if (payloadEnd == token.length() - 1) {
+            throw new UnsupportedJwtException("Unsigned JWTs are not supported.");
+        }
+        if (token.length() - payloadEnd - 1 != ENCODED_SIGNATURE_LENGTH) {
+            throw new SignatureException("JWT signature does not match locally computed signature.");
+        }
+
+        Buffers buffers = BUFFERS.get();
+        byte[] bytes = buffers.token(token);
+
+        List<SigningKey> candidates = resolveKeys(token, bytes, headerEnd, buffers);
+        if (!matchesAny(candidates, bytes, payloadEnd, buffers)) {
+            throw new SignatureException("JWT signature does not match locally computed signature.");
+        }
+
+        int payloadLength = decode(bytes, headerEnd + 1, payloadEnd - headerEnd - 1,
+                buffers.decoded(payloadEnd - headerEnd - 1));
+        TokenClaims claims = new JsonReader(buffers.decoded, payloadLength).readClaims();
+        if (nowMillis > claims.getExpirationMillis()) {
+            throw new ExpiredJwtException(null, null,
+                    "JWT expired at " + Instant.ofEpochSecond(claims.getExpiration()));
+        }
+        return claims;
+    }
+
+    /**
+     * 헤더 세그먼트로 서명 키 후보 선택
+     * <p>
+     * 미리 인코딩해 둔 헤더와 같으면 바로 키를 찾고, 그렇지 않으면 헤더를 디코딩해 alg 와 kid 를 확인합니다.
+     */
+    private List<SigningKey> resolveKeys(String token, byte[] bytes, int headerEnd,
+            Buffers buffers) {
+        if (activeKey.matchesHeader(token, headerEnd)) {
+            return activeKey.keyId == null ? keysWithoutId : List.of(activeKey);
+        }
+        for (SigningKey key : keysById.values()) {
+            if (key.matchesHeader(token, headerEnd)) {
+                return List.of(key);
+            }
+        }
+
+        int headerLength = decode(bytes, 0, headerEnd, buffers.decoded(headerEnd));
+        String[] header = new JsonReader(buffers.decoded, headerLength).readHeader();
+        if (!ALGORITHM.equals(header[0])) {
+            throw new UnsupportedJwtException("Unsupported JWT algorithm: " + header[0]);
+        }
+        if (header[1] == null) {
+            return keysWithoutId;
+        }
+        SigningKey key = keysById.get(header[1]);
+        if (key == null) {
+            throw new SignatureException("Unknown JWT key id: " + header[1]);
+        }
+        return List.of(key);
+    }
+
+    private static boolean matchesAny(List<SigningKey> candidates, byte[] bytes, int payloadEnd,
+            Buffers buffers) {
+        for (SigningKey key : candidates) {
+            key.sign(bytes, payloadEnd, buffers.signature);
+            ENCODER.encode(buffers.signature, buffers.encodedSignature);
+            if (constantTimeEquals(buffers.encodedSignature, bytes, payloadEnd + 1)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean constantTimeEquals(byte[] expected, byte[] actual, int offset) {
+        int result = 0;
+        for (int i = 0; i < expected.length; i++) {
+            result |= expected[i] ^ actual[offset + i];
+        }
+        return result == 0;
+    }
+
+    /**
+     * 설정 문자열 "kid:base64키,kid:base64키" 를 kid → Base64 키 문자열로 변환
+     */
+    public static Map<String, String> parseKeySpec(String spec) {
+        Map<String, String> keys = new LinkedHashMap<>();
+        if (spec == null || spec.isBlank()) {
+            return keys;
+        }
+        for (String entry : spec.split(",")) {
+            int separator = entry.indexOf(':');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("JWT key must be given as kid:base64Key");
+            }
+            keys.put(entry.substring(0, separator).trim(), entry.substring(separator + 1).trim());
+        }
+        return keys;
+    }
+
+    private static String writePayload(TokenClaims claims, StringBuilder json) {
+        json.setLength(0);
+        json.append('{');
+        appendString(json, "sub", claims.getSubject());
+        appendString(json, "auth", claims.getAuth());
+        if (claims.getUserId() != null) {
+            appendName(json, "uid").append(claims.getUserId());
+        }
+        appendString(json, "status", claims.getStatus());
+        appendString(json, "jti", claims.getId());
+        appendName(json, "exp").append(claims.getExpiration());
+        appendName(json, "iat").append(claims.getIssuedAt());
+        return json.append('}').toString();
+    }
+
+    private static void appendString(StringBuilder json, String name, String value) {
+        if (value == null) {
+            return;
+        }
+        appendName(json, name);
+        appendQuoted(json, value);
+    }
+
+    private static StringBuilder appendName(StringBuilder json, String name) {
+        if (json.length() > 1) {
+            json.append(',');
+        }
+        return json.append('"').append(name).append("\":");
+    }
+
+    private static void appendQuoted(StringBuilder json, String value) {
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> json.append("\\\"");
+                case '\\' -> json.append("\\\\");
+                case '\n' -> json.append("\\n");
+                case '\r' -> json.append("\\r");
+                case '\t' -> json.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        json.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        json.append(c);
+                    }
+                }
+            }
+        }
+        json.append('"');
+    }
+
+    private static int encodedLength(int length) {
+        return (length * 4 + 2) / 3;
+    }
+
+    /**
+     * 패딩 없는 Base64URL 디코딩, 결과를 dst 에 쓰고 길이를 반환
+     */
+    private static int decode(byte[] src, int offset, int length, byte[] dst) {
+        if (length % 4 == 1) {
+            throw new MalformedJwtException("Invalid Base64URL encoded JWT segment.");
+        }
+        int out = 0;
+        int bits = 0;
+        int buffer = 0;
+        for (int i = offset; i < offset + length; i++) {
+            int c = src[i];
+            int value = c < 0 ? -1 : DECODE_TABLE[c];
+            if (value < 0) {
+                throw new MalformedJwtException("Invalid Base64URL encoded JWT segment.");
+            }
+            buffer = (buffer << 6) | value;
+            bits += 6;
+            if (bits >= 8) {
+                bits -= 8;
+                dst[out++] = (byte) (buffer >> bits);
+                buffer &= (1 << bits) - 1;
+            }
+        }
+        return out;
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
+    /**
+     * kid 와 서명 키, 미리 인코딩한 헤더, 스레드별 Mac
+     */
+    private static final class SigningKey {
+
+        private final String keyId;
+        private final byte[] header;
+        private final String headerSegment;
+        private final ThreadLocal<Mac> mac;
+
+        private SigningKey(String keyId, byte[] key) {
+            this.keyId = keyId;
+            StringBuilder json = new StringBuilder("{\"alg\":\"" + ALGORITHM + "\"");
+            if (keyId != null) {
+                json.append(",\"kid\":");
+                appendQuoted(json, keyId);
+            }
+            json.append('}');
+            this.headerSegment = ENCODER.encodeToString(
+                    json.toString().getBytes(StandardCharsets.UTF_8));
+            this.header = headerSegment.getBytes(StandardCharsets.US_ASCII);
+
+            SecretKeySpec secretKey = new SecretKeySpec(key, MAC_ALGORITHM);
+            this.mac = ThreadLocal.withInitial(() -> {
+                try {
+                    Mac instance = Mac.getInstance(MAC_ALGORITHM);
+                    instance.init(secretKey);
+                    return instance;
+                } catch (GeneralSecurityException e) {
+                    throw new IllegalStateException("HmacSHA256 is not available", e);
+                }
+            });
+            mac.get(); // 잘못된 키는 기동 시점에 드러나도록 미리 한 번 초기화합니다.
+        }
+
+        private boolean matchesHeader(String token, int headerEnd) {
+            return headerEnd == headerSegment.length()
+                    && token.regionMatches(0, headerSegment, 0, headerEnd);
+        }
+
+        private void sign(byte[] input, int length, byte[] signature) {
+            Mac instance = mac.get();
+            instance.update(input, 0, length);
+            try {
+                instance.doFinal(signature, 0);
+            } catch (ShortBufferException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    /**
+     * 스레드별로 재사용하는 버퍼
+     */
+    private static final class Buffers {
+
+        private final StringBuilder json = new StringBuilder(256);
+        private final byte[] signature = new byte[SIGNATURE_LENGTH];
+        private final byte[] encodedSignature = new byte[ENCODED_SIGNATURE_LENGTH];
+        private byte[] encoded = new byte[512];
+        private byte[] decoded = new byte[512];
+        private byte[] token = new byte[1024];
+
+        private byte[] encoded(int length) {
+            if (encoded.length < length) {
+                encoded = new byte[length];
+            }
+            return encoded;
+        }
+
+        private byte[] decoded(int encodedLength) {
+            int length = encodedLength * 3 / 4 + 1;
+            if (decoded.length < length) {
+                decoded = new byte[length];
+            }
+            return decoded;
+        }
+
+        /**
+         * 토큰 문자열을 ASCII 바이트로 복사, ASCII 가 아닌 문자가 있으면 잘못된 토큰
+         */
+        private byte[] token(String value) {
+            if (token.length < value.length()) {
+                token = new byte[value.length()];
+            }
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c > 0x7f) {
+                    throw new MalformedJwtException("JWT strings must be ASCII.");
+                }
+                token[i] = (byte) c;
+            }
+            return token;
+        }
+    }
+
+    /**
+     * 평평한 JSON 객체만 읽는 최소한의 파서
+     * <p>
+     * 우리가 쓰는 키만 값으로 읽고 나머지 키의 값은 건너뜁니다.
+     */
+    private static final class JsonReader {
+
+        private final byte[] json;
+        private final int limit;
+        private int position;
+
+        private JsonReader(byte[] json, int limit) {
+            this.json = json;
+            this.limit = limit;
+        }
+
+        private TokenClaims readClaims() {
+            String subject = null;
+            String auth = null;
+            Long userId = null;
+            String status = null;
+            String id = null;
+            long issuedAt = 0;
+            Long expiration = null;
+
+            expect('{');
+            if (!consume('}')) {
+                do {
+                    String name = readString();
+                    expect(':');
+                    switch (name) {
+                        case "sub" -> subject = readString();
+                        case "auth" -> auth = readString();
+                        case "uid" -> userId = readLong();
+                        case "status" -> status = readString();
+                        case "jti" -> id = readString();
+                        case "iat" -> issuedAt = readLong();
+                        case "exp" -> expiration = readLong();
+                        default -> skipValue();
+                    }
+                } while (consume(','));
+                expect('}');
+            }
+            expectEnd();
+            if (expiration == null) {
+                throw new UnsupportedJwtException("JWTs without an exp claim are not supported.");
+            }
+            return new TokenClaims(subject, auth, userId, status, id, issuedAt, expiration);
+        }
+
+        /**
+         * @return [alg, kid]
+         */
+        private String[] readHeader() {
+            String[] header = new String[2];
+            expect('{');
+            if (!consume('}')) {
+                do {
+                    String name = readString();
+                    expect(':');
+                    switch (name) {
+                        case "alg" -> header[0] = readString();
+                        case "kid" -> header[1] = readString();
+                        default -> skipValue();
+                    }
+                } while (consume(','));
+                expect('}');
+            }
+            expectEnd();
+            return header;
+        }
+
+        private String readString() {
+            expect('"');
+            int start = position;
+            StringBuilder escaped = null;
+            while (position < limit) {
+                byte b = json[position];
+                if (b == '"') {
+                    String value = escaped == null
+                            ? new String(json, start, position - start, StandardCharsets.UTF_8)
+                            : escaped.append(new String(json, start, position - start,
+                                    StandardCharsets.UTF_8)).toString();
+                    position++;
+                    return value;
+                }
+                if (b == '\\') {
+                    if (escaped == null) {
+                        escaped = new StringBuilder();
+                    }
+                    escaped.append(new String(json, start, position - start, StandardCharsets.UTF_8));
+                    position++;
+                    escaped.append(readEscape());
+                    start = position;
+                    continue;
+                }
+                position++;
+            }
+            throw malformed();
+        }
+
+        private char readEscape() {
+            if (position >= limit) {
+                throw malformed();
+            }
+            byte b = json[position++];
+            return switch (b) {
+                case '"' -> '"';
+                case '\\' -> '\\';
+                case '/' -> '/';
+                case 'b' -> '\b';
+                case 'f' -> '\f';
+                case 'n' -> '\n';
+                case 'r' -> '\r';
+                case 't' -> '\t';
+                case 'u' -> {
+                    if (position + 4 > limit) {
+                        throw malformed();
+                    }
+                    String hex = new String(json, position, 4, StandardCharsets.US_ASCII);
+                    position += 4;
+                    try {
+                        yield (char) Integer.parseInt(hex, 16);
+                    } catch (NumberFormatException e) {
+                        throw malformed();
+                    }
+                }
+                default -> throw malformed();
+            };
+        }
+
+        private long readLong() {
+            skipWhitespace();
+            boolean negative = consume('-');
+            int start = position;
+            long value = 0;
+            while (position < limit && json[position] >= '0' && json[position] <= '9') {
+                value = value * 10 + (json[position] - '0');
+                position++;
+            }
+            if (position == start || position - start > 18) {
+                throw malformed();
+            }
+            return negative ? -value : value;
+        }
+
+        private void skipValue() {
+            skipWhitespace();
+            if (position >= limit) {
+                throw malformed();
+            }
+            byte b = json[position];
+            if (b == '"') {
+                readString();
+            } else if (b == '{' || b == '[') {
+                skipContainer();
+            } else {
+                // 숫자, true, false, null
+                int start = position;
+                while (position < limit && json[position] != ',' && json[position] != '}'
+                        && json[position] != ']' && json[position] > ' ') {
+                    position++;
+                }
+                if (position == start) {
+                    throw malformed();
+                }
+            }
+        }
+
+        private void skipContainer() {
+            int depth = 0;
+            do {
+                if (position >= limit) {
+                    throw malformed();
+                }
+                byte b = json[position];
+                if (b == '"') {
+                    readString();
+                    continue;
+                }
+                if (b == '{' || b == '[') {
+                    depth++;
+                } else if (b == '}' || b == ']') {
+                    depth--;
+                }
+                position++;
+            } while (depth > 0);
+        }
+
+        private boolean consume(char c) {
+            skipWhitespace();
+            if (position < limit && json[position] == c) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+
+        private void expect(char c) {
+            if (!consume(c)) {
+                throw malformed();
+            }
+        }
+
+        private void expectEnd() {
+            skipWhitespace();
+            if (position != limit) {
+                throw malformed();
+            }
+        }
+
+        private void skipWhitespace() {
+            while (position < limit && (json[position] == ' ' || json[position] == '\t'
+                    || json[position] == '\n' || json[position] == '\r')) {
+                position++;
+            }
+        }
+
+        private MalformedJwtException malformed() {
+            return new MalformedJwtException("Malformed JWT JSON.");
+        }
+    }
+}
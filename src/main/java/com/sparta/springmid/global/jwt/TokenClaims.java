@@ -0,0 +1,35 @@
+package com.sparta.springmid.global.jwt;
+
+import lombok.Getter;
+
+/**
+ * 우리 서비스가 발급하는 토큰의 클레임
+ * <p>
+ * 발급하는 클레임이 sub, auth, uid, status, jti, iat, exp 로 고정되어 있으므로 Map 대신 필드로 보관합니다. 시각은 모두 초 단위입니다.
+ */
+@Getter
+public class TokenClaims {
+
+    private final String subject;
+    private final String auth;
+    private final Long userId;
+    private final String status;
+    private final String id;
+    private final long issuedAt;
+    private final long expiration;
+
+    public TokenClaims(String subject, String auth, Long userId, String status, String id,
+            long issuedAt, long expiration) {
+        this.subject = subject;
+        this.auth = auth;
+        this.userId = userId;
+        this.status = status;
+        this.id = id;
+        this.issuedAt = issuedAt;
+        this.expiration = expiration;
+    }
+
+    public long getExpirationMillis() {
+        return expiration * 1000;
+    }
+}
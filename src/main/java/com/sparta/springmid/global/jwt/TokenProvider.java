@@ -2,19 +2,21 @@ package com.sparta.springmid.global.jwt;
 
 
 import com.sparta.springmid.global.enums.AuthEnum;
+import com.sparta.springmid.global.enums.StatusEnum;
 import com.sparta.springmid.global.security.CustomUserDetails;
 import com.sparta.springmid.product.dto.TokenDto;
 import com.sparta.springmid.product.service.CustomUserDetailsService;
-import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
-import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
-import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
-import java.security.Key;
-import java.util.Date;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -25,51 +27,92 @@ import org.springframework.stereotype.Component;
 @Component
 public class TokenProvider {
 
-    private static final long ACCESS_TOKEN_EXPIRE_TIME = 1000 * 60 * 30;            // 30분
+    public static final long ACCESS_TOKEN_EXPIRE_TIME = 1000 * 60 * 30;            // 30분
+
+    private static final String AUTH_CLAIM_VALUE = "USER";
 
     @Value("${JWT_EXPIRATION}")
     private long jwtExpirationMillis;
 
+    /**
+     * true 이면 억세스 토큰의 클레임만으로 인증 객체를 만들고 유저 조회를 생략합니다.
+     */
+    @Value("${jwt.claims-principal.enabled:true}")
+    private boolean claimsPrincipalEnabled;
+
 
     String token = AuthEnum.GRANT_TYPE.getValue();
-    private final Key key;
     private final CustomUserDetailsService detailsService;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
+
+    /**
+     * HS256 서명/검증기, 스레드 안전하므로 하나를 재사용합니다.
+     */
+    private final HmacJwtCodec codec;
+
+    /**
+     * 서명 검증을 마친 토큰 캐시
+     */
+    private final VerifiedTokenCache verifiedTokenCache;
 
     public TokenProvider(@Value("${JWT_SECRET_KEY}") String secretKey,
-            CustomUserDetailsService detailsService) {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        this.key = Keys.hmacShaKeyFor(keyBytes);
+            @Value("${jwt.secret.key-id:}") String keyId,
+            @Value("${jwt.secret.previous-keys:}") String previousKeys,
+            @Value("${jwt.verified-cache.max-size:10000}") int verifiedCacheMaxSize,
+            CustomUserDetailsService detailsService,
+            TokenRevocationRegistry tokenRevocationRegistry, MeterRegistry meterRegistry) {
+        Map<String, byte[]> verificationKeys = new LinkedHashMap<>();
+        HmacJwtCodec.parseKeySpec(previousKeys)
+                .forEach((id, key) -> verificationKeys.put(id, decodeKey(key)));
+        this.codec = new HmacJwtCodec(keyId, decodeKey(secretKey), verificationKeys);
         this.detailsService = detailsService;
+        this.tokenRevocationRegistry = tokenRevocationRegistry;
+        this.verifiedTokenCache = new VerifiedTokenCache(verifiedCacheMaxSize);
+
+        FunctionCounter.builder("jwt.verified.cache", verifiedTokenCache,
+                        VerifiedTokenCache::getHitCount)
+                .tag("result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("jwt.verified.cache", verifiedTokenCache,
+                        VerifiedTokenCache::getMissCount)
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("jwt.verified.cache.size", verifiedTokenCache, VerifiedTokenCache::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Base64 키 디코딩, HS256 에 쓸 수 없는 짧은 키는 jjwt 와 같이 기동 시점에 거부합니다.
+     */
+    private static byte[] decodeKey(String secretKey) {
+        return Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey)).getEncoded();
     }
 
     /**
      * 유저 정보를 통해 토큰 생성
      */
     public TokenDto generateToken(Authentication authentication) {
-        log.info("generateToken start");
-
-        long now = (new Date()).getTime();
-        Date accessTokenExpiresIn = new Date(now + ACCESS_TOKEN_EXPIRE_TIME); // 30분
-        Date refreshTokenExpiresIn = new Date(now + jwtExpirationMillis); // 14일
-
-        String accessToken = token + Jwts.builder()
-                .setSubject(authentication.getName())
-                .claim("auth", "USER")
-                .setExpiration(accessTokenExpiresIn)
-                .signWith(key, SignatureAlgorithm.HS256)
-                .setIssuedAt(new Date(now))
-                .compact();
-
-        log.info(accessToken);
-
-        String refreshToken = token + Jwts.builder()
-                .setExpiration(refreshTokenExpiresIn)
-                .signWith(key, SignatureAlgorithm.HS256)
-                .setIssuedAt(new Date(now))
-                .setSubject(authentication.getName())
-                .compact();
-
-        log.info("accessToken: {}", accessToken);
+        log.debug("generateToken start");
+
+        long now = System.currentTimeMillis();
+        Long userId = null;
+        String status = null;
+        if (authentication.getPrincipal() instanceof CustomUserDetails userDetails) {
+            now = tokenRevocationRegistry.nextIssuedAt(userDetails.getId(), now);
+            userId = userDetails.getId();
+            status = userDetails.getStatus().name();
+        }
+        long issuedAt = now / 1000;
+
+        String accessToken = token + codec.sign(new TokenClaims(authentication.getName(),
+                AUTH_CLAIM_VALUE, userId, status, null, issuedAt,
+                (now + ACCESS_TOKEN_EXPIRE_TIME) / 1000)); // 30분
+
+        // jti 로 같은 초에 발급된 리프레시 토큰도 서로 다른 해시를 갖도록 합니다.
+        String refreshToken = token + codec.sign(new TokenClaims(authentication.getName(),
+                null, null, null, UUID.randomUUID().toString(), issuedAt,
+                (now + jwtExpirationMillis) / 1000)); // 14일
+
         return TokenDto.builder()
                 .grantType("Bearer")
                 .accessToken(accessToken)
@@ -78,25 +121,56 @@ public class TokenProvider {
     }
 
     /**
-     * 토큰에서 유저 정보 추출
+     * 검증이 끝난 Claims 에서 유저 정보 추출, 탈퇴했거나 폐지된 토큰이면 null
+     * <p>
+     * 억세스 토큰에 유저 정보 클레임이 있으면 DB 조회 없이 인증 객체를 만들고, 폐지 여부는 메모리의 폐지 목록으로 확인합니다.
      */
-    public Authentication getAuthentication(String token) {
-        String username = parseClaims(token).getSubject();
-        CustomUserDetails userDetails = detailsService.loadUserByUsername(username);
+    public Authentication getAuthentication(TokenClaims claims) {
+        CustomUserDetails userDetails;
+        if (claimsPrincipalEnabled && claims.getUserId() != null) {
+            userDetails = fromClaims(claims);
+        } else {
+            userDetails = detailsService.loadUserByUsername(claims.getSubject());
+        }
+        if (userDetails == null
+                || tokenRevocationRegistry.isRevoked(userDetails.getId(), claims.getIssuedAt())) {
+            return null;
+        }
         return new UsernamePasswordAuthenticationToken(userDetails, "",
                 userDetails.getAuthorities());
     }
 
+    private CustomUserDetails fromClaims(TokenClaims claims) {
+        if (!StatusEnum.ACTIVE.name().equals(claims.getStatus())) {
+            return null;
+        }
+        return detailsService.loadLazyUser(claims.getUserId(), claims.getSubject(),
+                StatusEnum.ACTIVE);
+    }
+
 
     /**
      * 토큰 정보 검증
      */
     public boolean validateToken(String token) {
-        log.info("validateToken start");
-        log.info("token: {}", token);
+        return verifyToken(token) != null;
+    }
+
+    /**
+     * 토큰을 검증하고 Claims 를 반환, 유효하지 않은 토큰이면 null
+     * <p>
+     * 한 번 검증된 토큰은 만료 전까지 캐시에서 바로 꺼내 쓰므로 서명 검증은 토큰당 한 번만 일어납니다.
+     */
+    public TokenClaims verifyToken(String token) {
+        String cacheKey = VerifiedTokenCache.keyOf(token);
+        TokenClaims cached = verifiedTokenCache.get(cacheKey);
+        if (cached != null) {
+            return cached;
+        }
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
+            TokenClaims claims = codec.verify(token, System.currentTimeMillis());
+            verifiedTokenCache.put(cacheKey, claims);
+            return claims;
         } catch (io.jsonwebtoken.security.SecurityException | MalformedJwtException e) {
             log.info("Invalid JWT Token", e);
         } catch (ExpiredJwtException e) {
@@ -108,28 +182,11 @@ public class TokenProvider {
         } catch (IllegalArgumentException e) {
             log.info("JWT claims string is empty.", e);
         }
-        return false;
-    }
-
-    private Claims parseClaims(String token) {
-        try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
-        } catch (ExpiredJwtException e) {
-            return e.getClaims();
-        }
+        return null;
     }
 
     public String getUsername(String refreshToken) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(refreshToken)
-                .getBody();
-        return claims.getSubject();
+        return codec.verify(refreshToken, System.currentTimeMillis()).getSubject();
     }
 
     public long getJwtExpirationMillis() {
@@ -0,0 +1,107 @@
+package com.sparta.springmid.global.jwt;
+
+import com.sparta.springmid.product.repository.UserRepository;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 폐지된 토큰 목록을 메모리에 보관하는 클래스
+ * <p>
+ * 유저 고유번호마다 폐지 시각(초)을 저장하고, 발급 시각(iat)이 그 시각 이하인 토큰은 모두 폐지된 것으로 봅니다. 폐지 시각 이후 토큰
+ * 수명이 지나면 해당 토큰은 어차피 만료되므로 항목을 정리합니다.
+ */
+@Slf4j(topic = "TokenRevocationRegistry")
+@Component
+public class TokenRevocationRegistry {
+
+    private final UserRepository userRepository;
+
+    /**
+     * 폐지 항목을 유지할 시간, 억세스 토큰의 수명 (리프레시 토큰은 refresh_tokens 테이블에서 삭제로 폐지)
+     */
+    private final long retentionMillis;
+
+    /**
+     * 유저 고유번호 -> 폐지 시각(epoch seconds)
+     */
+    private final ConcurrentHashMap<Long, Long> revokedBefore = new ConcurrentHashMap<>();
+
+    public TokenRevocationRegistry(UserRepository userRepository) {
+        this.userRepository = userRepository;
+        this.retentionMillis = TokenProvider.ACCESS_TOKEN_EXPIRE_TIME;
+    }
+
+    /**
+     * 서버 시작 시 아직 살아있는 토큰이 있을 수 있는 폐지 기록을 DB 에서 불러옵니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        LocalDateTime since = LocalDateTime.now().minusNanos(retentionMillis * 1_000_000);
+        for (Object[] row : userRepository.findTokenRevocationsSince(since)) {
+            revoke((Long) row[0], (LocalDateTime) row[1]);
+        }
+        log.info("loaded {} token revocations", revokedBefore.size());
+    }
+
+    /**
+     * 토큰이 폐지되었는지 확인
+     *
+     * @param userId   유저 고유번호
+     * @param issuedAt 토큰 발급 시각(초), iat 가 없는 토큰은 0
+     * @return
+     */
+    public boolean isRevoked(Long userId, long issuedAt) {
+        Long cutoff = revokedBefore.get(userId);
+        if (cutoff == null) {
+            return false;
+        }
+        return issuedAt <= cutoff;
+    }
+
+    /**
+     * 새로 발급할 토큰의 발급 시각
+     * <p>
+     * iat 는 초 단위이므로 폐지와 같은 초에 발급된 토큰이 곧바로 폐지되지 않도록 폐지 시각 다음 초 이후로 맞춥니다.
+     *
+     * @param userId    유저 고유번호
+     * @param nowMillis 현재 시각
+     * @return 발급 시각(ms)
+     */
+    public long nextIssuedAt(Long userId, long nowMillis) {
+        Long cutoff = revokedBefore.get(userId);
+        if (cutoff == null) {
+            return nowMillis;
+        }
+        return Math.max(nowMillis, (cutoff + 1) * 1000);
+    }
+
+    /**
+     * 해당 시각까지 발급된 유저의 모든 토큰 폐지
+     *
+     * @param userId    유저 고유번호
+     * @param revokedAt 폐지 시각
+     */
+    public void revoke(Long userId, LocalDateTime revokedAt) {
+        long epochSecond = revokedAt.atZone(ZoneId.systemDefault()).toEpochSecond();
+        revokedBefore.merge(userId, epochSecond, Math::max);
+    }
+
+    /**
+     * 폐지 이후 토큰 수명이 모두 지난 항목 정리
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.purge-interval-ms:60000}")
+    public void purgeExpired() {
+        long threshold = (System.currentTimeMillis() - retentionMillis) / 1000;
+        revokedBefore.values().removeIf(cutoff -> cutoff < threshold);
+    }
+
+    public int size() {
+        return revokedBefore.size();
+    }
+}
@@ -0,0 +1,92 @@
+package com.sparta.springmid.global.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.sparta.springmid.global.util.SHA256Util;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서명 검증을 마친 토큰의 Claims 를 보관하는 캐시
+ * <p>
+ * 토큰 원문 대신 SHA-256 해시를 키로 사용하고, 각 항목은 토큰의 만료시각까지만 유효합니다. 최대 항목 수를 넘으면 Caffeine 이 자주 쓰이지
+ * 않는 항목부터 내보내므로, 살아 있는 토큰으로 가득 차도 새로 로그인한 사용자의 토큰은 계속 캐시됩니다.
+ */
+public class VerifiedTokenCache {
+
+    private final Cache<String, TokenClaims> cache;
+
+    /**
+     * 생성자 매서드
+     *
+     * @param maxSize 보관할 최대 토큰 수
+     */
+    public VerifiedTokenCache(int maxSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<String, TokenClaims>() {
+                    @Override
+                    public long expireAfterCreate(String key, TokenClaims claims, long currentTime) {
+                        long remainingMillis = claims.getExpirationMillis()
+                                - System.currentTimeMillis();
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, TokenClaims claims, long currentTime,
+                            long currentDuration) {
+                        return expireAfterCreate(key, claims, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, TokenClaims claims, long currentTime,
+                            long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 캐시 키 생성
+     *
+     * @param token 접두사를 제거한 토큰
+     * @return 토큰의 해시값
+     */
+    public static String keyOf(String token) {
+        return SHA256Util.hash(token);
+    }
+
+    /**
+     * 검증된 Claims 조회, 없거나 만료된 경우 null
+     *
+     * @param key {@link #keyOf(String)} 로 만든 키
+     * @return
+     */
+    public TokenClaims get(String key) {
+        return cache.getIfPresent(key);
+    }
+
+    /**
+     * 검증이 끝난 Claims 저장
+     *
+     * @param key    {@link #keyOf(String)} 로 만든 키
+     * @param claims 서명 검증을 통과한 Claims
+     */
+    public void put(String key, TokenClaims claims) {
+        cache.put(key, claims);
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    public long getHitCount() {
+        return cache.stats().hitCount();
+    }
+
+    public long getMissCount() {
+        return cache.stats().missCount();
+    }
+}
@@ -1,8 +1,11 @@
 package com.sparta.springmid.global.security;
 
+import com.sparta.springmid.global.enums.StatusEnum;
 import com.sparta.springmid.product.model.User;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.function.Supplier;
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -10,19 +13,62 @@ import org.springframework.security.core.userdetails.UserDetails;
 
 /**
  * 유저디테일을 커스텀 한 클래스
+ * <p>
+ * 토큰의 Claims 로 만든 경우 id, username, status 만 가지고 있고 User 엔티티는 {@link #getUser()} 를 처음 호출할 때
+ * 불러옵니다.
  */
 @Getter
 public class CustomUserDetails implements UserDetails {
 
-    private final User user;
+    private final Long id;
+
+    private final String username;
+
+    private final StatusEnum status;
+
+    @Getter(AccessLevel.NONE)
+    private final Supplier<User> userLoader;
+
+    @Getter(AccessLevel.NONE)
+    private User user;
 
     /**
      * 생성자 매서드
      * @param user
      */
     public CustomUserDetails(User user) {
+        this.id = user.getId();
+        this.username = user.getUsername();
+        this.status = user.getStatus();
+        this.userLoader = () -> user;
         this.user = user;
     }
+
+    /**
+     * 토큰 Claims 기반 생성자 매서드
+     *
+     * @param id         유저 고유번호
+     * @param username   아이디
+     * @param status     유저 상태
+     * @param userLoader User 엔티티가 필요할 때 호출할 조회 함수
+     */
+    public CustomUserDetails(Long id, String username, StatusEnum status,
+            Supplier<User> userLoader) {
+        this.id = id;
+        this.username = username;
+        this.status = status;
+        this.userLoader = userLoader;
+    }
+
+    /**
+     * User 엔티티, 아직 불러오지 않았다면 이 시점에 조회합니다.
+     */
+    public User getUser() {
+        if (user == null) {
+            user = userLoader.get();
+        }
+        return user;
+    }
     /**
      * 해당 유저의 권한 목록
      */
@@ -38,7 +84,7 @@ public class CustomUserDetails implements UserDetails {
      */
     @Override
     public String getPassword() {
-        return user.getPassword();
+        return getUser().getPassword();
     }
 
 
@@ -47,7 +93,7 @@ public class CustomUserDetails implements UserDetails {
      */
     @Override
     public String getUsername() {
-        return user.getUsername();
+        return username;
     }
 
     /**
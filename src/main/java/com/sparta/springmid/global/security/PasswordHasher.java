@@ -0,0 +1,122 @@
+package com.sparta.springmid.global.security;
+
+import com.sparta.springmid.global.exception.ServiceBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+/**
+ * BCrypt 암호화/검증을 전용 스레드 풀에서 실행하는 클래스
+ * <p>
+ * 로그인이 몰려도 톰캣 요청 스레드가 BCrypt 연산에 묶이지 않도록 작업 수와 대기열 길이를 제한합니다. 대기열이 가득 차면 기다리지 않고
+ * {@link ServiceBusyException} 으로 바로 거절합니다.
+ * <p>
+ * 대기 시간 제한(auth.hash.timeout-ms)은 해시 한 번보다 넉넉하되 짧게 잡아, 밀린 요청은 오래 기다리게 하지 않고 실패시킵니다.
+ * 호출하는 쪽은 트랜잭션 밖에서 호출해 기다리는 동안 커넥션을 잡지 않도록 합니다.
+ */
+@Slf4j(topic = "PasswordHasher")
+@Component
+public class PasswordHasher {
+
+    private final BCryptPasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+    private final Timer hashTimer;
+    private final Counter rejectedCounter;
+
+    public PasswordHasher(BCryptPasswordEncoder passwordEncoder,
+            @Value("${auth.hash.threads:4}") int threads,
+            @Value("${auth.hash.queue-capacity:64}") int queueCapacity,
+            @Value("${auth.hash.timeout-ms:1000}") long timeoutMillis,
+            MeterRegistry meterRegistry) {
+        this.passwordEncoder = passwordEncoder;
+        this.timeoutMillis = timeoutMillis;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable,
+                            "password-hash-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.hashTimer = Timer.builder("auth.password.hash").register(meterRegistry);
+        this.rejectedCounter = Counter.builder("auth.password.hash.rejected")
+                .register(meterRegistry);
+        Gauge.builder("auth.password.hash.queue", executor, e -> e.getQueue().size())
+                .register(meterRegistry);
+        Gauge.builder("auth.password.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 비밀번호 암호화
+     *
+     * @param rawPassword 평문 비밀번호
+     * @return BCrypt 해시
+     */
+    public String encode(String rawPassword) {
+        return execute(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * 비밀번호 검증
+     *
+     * @param rawPassword       평문 비밀번호
+     * @param encryptedPassword 저장된 BCrypt 해시
+     * @return 일치 여부
+     */
+    public boolean matches(String rawPassword, String encryptedPassword) {
+        return execute(() -> passwordEncoder.matches(rawPassword, encryptedPassword));
+    }
+
+    private <T> T execute(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> hashTimer.recordCallable(task));
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            log.warn("password hash queue is full ({} waiting)", executor.getQueue().size());
+            throw new ServiceBusyException("요청이 많아 잠시 후 다시 시도해주세요.");
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new ServiceBusyException("요청이 많아 잠시 후 다시 시도해주세요.");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServiceBusyException("요청이 많아 잠시 후 다시 시도해주세요.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
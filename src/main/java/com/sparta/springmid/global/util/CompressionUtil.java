@@ -0,0 +1,92 @@
+package com.sparta.springmid.global.util;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Deflate 압축/해제 클래스
+ * <p>
+ * 압축과 해제에 걸린 시간과 압축률(원본 크기 / 압축 크기)을 Micrometer 전역 레지스트리에 기록합니다.
+ * 스프링 부트는 애플리케이션 레지스트리를 전역 레지스트리에 등록하므로 /actuator/metrics 에서 확인할 수 있습니다.
+ */
+public class CompressionUtil {
+
+    private static final Timer DEFLATE_TIMER = Timer.builder("content.compression")
+            .tag("operation", "deflate").register(Metrics.globalRegistry);
+    private static final Timer INFLATE_TIMER = Timer.builder("content.compression")
+            .tag("operation", "inflate").register(Metrics.globalRegistry);
+    private static final DistributionSummary RATIO = DistributionSummary
+            .builder("content.compression.ratio").register(Metrics.globalRegistry);
+
+    private CompressionUtil() {}
+
+    /**
+     * 압축
+     * @param raw 원본
+     * @return 압축된 바이트 (zlib 형식)
+     */
+    public static byte[] deflate(byte[] raw) {
+        long started = System.nanoTime();
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 2 + 16);
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            byte[] packed = out.toByteArray();
+            RATIO.record(packed.length == 0 ? 1 : (double) raw.length / packed.length);
+            return packed;
+        } finally {
+            deflater.end();
+            DEFLATE_TIMER.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 압축 해제, 손상된 데이터면 IllegalStateException
+     * @param packed {@link #deflate(byte[])} 로 압축한 바이트
+     * @return 원본
+     */
+    public static byte[] inflate(byte[] packed) {
+        long started = System.nanoTime();
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(packed);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(packed.length * 4);
+            byte[] buffer = new byte[8192];
+            while (!inflater.finished()) {
+                int read = inflater.inflate(buffer);
+                if (read == 0 && !inflater.finished()
+                        && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalStateException("압축 데이터가 손상되었습니다.");
+                }
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("압축 데이터가 손상되었습니다.", e);
+        } finally {
+            inflater.end();
+            INFLATE_TIMER.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * UTF-8 문자열로 압축 해제
+     * @param packed 압축된 UTF-8 문자열
+     * @return
+     */
+    public static String inflateToString(byte[] packed) {
+        return new String(inflate(packed), StandardCharsets.UTF_8);
+    }
+}
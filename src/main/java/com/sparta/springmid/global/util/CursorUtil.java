@@ -0,0 +1,49 @@
+package com.sparta.springmid.global.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 커서 페이지네이션용 커서 인코딩 클래스
+ * <p>
+ * 마지막으로 내려준 행의 정렬 키들을 하나의 불투명한 Base64URL 문자열로 묶습니다. 클라이언트는 받은 커서를 그대로 돌려보내기만 합니다.
+ */
+public class CursorUtil {
+
+    private static final String SEPARATOR = "|";
+
+    private CursorUtil() {}
+
+    /**
+     * 커서 생성
+     * @param parts 커서 종류와 정렬 키 값들
+     * @return
+     */
+    public static String encode(String... parts) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(String.join(SEPARATOR, parts).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 해석, 형식이 다르거나 다른 종류의 커서면 IllegalArgumentException
+     * @param cursor {@link #encode(String...)} 로 만든 커서
+     * @param type   기대하는 커서 종류
+     * @param size   커서 종류를 제외한 값의 개수
+     * @return 커서 종류를 제외한 값들
+     */
+    public static String[] decode(String cursor, String type, int size) {
+        String[] parts;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8)
+                    .split("\\" + SEPARATOR, -1);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+        if (parts.length != size + 1 || !parts[0].equals(type)) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+        String[] values = new String[size];
+        System.arraycopy(parts, 1, values, 0, size);
+        return values;
+    }
+}
@@ -1,7 +1,9 @@
 package com.sparta.springmid.global.util;
 
+import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
 import java.util.Random;
 
 /**
@@ -39,6 +41,21 @@ public class SHA256Util {
         }
         return result;
     }
+    /**
+     * 솔트 없이 문자열의 SHA-256 해시를 64자리 16진수 문자열로 반환합니다.
+     * 토큰처럼 원문을 보관하지 않아야 하는 값의 조회 키로 사용합니다.
+     * @param source
+     * @return
+     */
+    public static String hash(String source) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(md.digest(source.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
     public static String createSalt(){
         Random random = new Random();
         byte[] salt = new byte[8];
@@ -0,0 +1,30 @@
+package com.sparta.springmid.global.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 관련 유틸 클래스
+ */
+public class TransactionUtil {
+
+    private TransactionUtil() {}
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤에 실행합니다. 트랜잭션 밖이면 바로 실행합니다.
+     * 메모리의 캐시나 인덱스가 롤백된 변경을 반영하지 않도록 할 때 사용합니다.
+     * @param action
+     */
+    public static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
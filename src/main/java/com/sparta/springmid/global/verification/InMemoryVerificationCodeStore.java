@@ -0,0 +1,120 @@
+package com.sparta.springmid.global.verification;
+
+import com.sparta.springmid.global.enums.VerificationResultEnum;
+import com.sparta.springmid.global.exception.ServiceBusyException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * 메모리 기반 인증번호 저장소
+ * <p>
+ * 인증번호는 이메일을 키로 ConcurrentHashMap 에 저장하고, 만료 처리는 타이머 휠로 합니다. 저장할 때 만료 시각이 속한 칸에 이메일을
+ * 넣어두고, 매 틱마다 지나간 칸만 확인하므로 전체를 훑지 않고도 만료된 인증번호를 정리할 수 있습니다.
+ * <p>
+ * 다른 {@link VerificationCodeStore} 빈이 없을 때만 {@code VerificationConfig} 에서 등록됩니다.
+ */
+public class InMemoryVerificationCodeStore implements VerificationCodeStore {
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<String>[] wheel;
+    private final long ttlMillis;
+    private final long tickMillis;
+    private final int maxEntries;
+    private final int maxAttempts;
+    private long lastSweptTick;
+
+    @SuppressWarnings("unchecked")
+    public InMemoryVerificationCodeStore(long ttlSeconds, long tickMillis, int maxEntries,
+            int maxAttempts) {
+        this.ttlMillis = ttlSeconds * 1000;
+        this.tickMillis = tickMillis;
+        this.maxEntries = maxEntries;
+        this.maxAttempts = maxAttempts;
+
+        // 만료 시각은 항상 지금부터 ttl 이내이므로 ttl 을 덮는 칸 수면 충분합니다.
+        int slots = (int) (ttlMillis / tickMillis) + 2;
+        this.wheel = new ConcurrentLinkedQueue[slots];
+        for (int i = 0; i < slots; i++) {
+            wheel[i] = new ConcurrentLinkedQueue<>();
+        }
+        this.lastSweptTick = System.currentTimeMillis() / tickMillis;
+    }
+
+    @Override
+    public void save(String email, String codeHash) {
+        if (entries.size() >= maxEntries && !entries.containsKey(email)) {
+            throw new ServiceBusyException("인증 요청이 많아 잠시 후 다시 시도해주세요.");
+        }
+        long expiresAt = System.currentTimeMillis() + ttlMillis;
+        entries.put(email, new Entry(codeHash, expiresAt));
+
+        // 만료 시각을 올림한 틱의 칸에 넣어 해당 칸을 정리할 때는 반드시 만료되어 있도록 합니다.
+        long expiryTick = (expiresAt + tickMillis - 1) / tickMillis;
+        wheel[(int) (expiryTick % wheel.length)].add(email);
+    }
+
+    @Override
+    public VerificationResultEnum verify(String email, String codeHash) {
+        Entry entry = entries.get(email);
+        if (entry == null) {
+            return VerificationResultEnum.NOT_FOUND;
+        }
+        if (entry.isExpired(System.currentTimeMillis())) {
+            entries.remove(email, entry);
+            return VerificationResultEnum.NOT_FOUND;
+        }
+        if (entry.attempts.incrementAndGet() > maxAttempts) {
+            entries.remove(email, entry);
+            return VerificationResultEnum.TOO_MANY_ATTEMPTS;
+        }
+        if (!MessageDigest.isEqual(entry.codeHash.getBytes(StandardCharsets.UTF_8),
+                codeHash.getBytes(StandardCharsets.UTF_8))) {
+            return VerificationResultEnum.MISMATCH;
+        }
+        entries.remove(email, entry);
+        return VerificationResultEnum.VERIFIED;
+    }
+
+    /**
+     * 지난 틱의 칸을 돌며 만료된 인증번호 정리
+     */
+    @Scheduled(fixedDelayString = "${mail.verification.tick-millis:1000}")
+    public synchronized void sweep() {
+        long now = System.currentTimeMillis();
+        long currentTick = now / tickMillis;
+        long fromTick = Math.max(lastSweptTick + 1, currentTick - wheel.length + 1);
+        for (long tick = fromTick; tick <= currentTick; tick++) {
+            ConcurrentLinkedQueue<String> slot = wheel[(int) (tick % wheel.length)];
+            String email;
+            while ((email = slot.poll()) != null) {
+                entries.computeIfPresent(email,
+                        (key, entry) -> entry.isExpired(now) ? null : entry);
+            }
+        }
+        lastSweptTick = currentTick;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private static final class Entry {
+
+        private final String codeHash;
+        private final long expiresAt;
+        private final AtomicInteger attempts = new AtomicInteger();
+
+        private Entry(String codeHash, long expiresAt) {
+            this.codeHash = codeHash;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(long now) {
+            return expiresAt <= now;
+        }
+    }
+}
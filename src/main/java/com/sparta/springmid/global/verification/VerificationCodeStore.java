@@ -0,0 +1,28 @@
+package com.sparta.springmid.global.verification;
+
+import com.sparta.springmid.global.enums.VerificationResultEnum;
+
+/**
+ * 이메일 인증번호 저장소
+ * <p>
+ * 기본 구현은 메모리 저장소이며, 여러 서버가 인증번호를 공유해야 하면 DB 등 다른 구현을 빈으로 등록해 교체합니다.
+ */
+public interface VerificationCodeStore {
+
+    /**
+     * 이메일의 인증번호 해시를 저장합니다. 같은 이메일의 이전 인증번호는 대체됩니다.
+     *
+     * @param email    인증 대상 이메일
+     * @param codeHash 인증번호 해시
+     */
+    void save(String email, String codeHash);
+
+    /**
+     * 입력받은 인증번호 해시를 검증합니다. 인증에 성공하면 저장된 인증번호는 삭제됩니다.
+     *
+     * @param email    인증 대상 이메일
+     * @param codeHash 입력받은 인증번호 해시
+     * @return 검증 결과
+     */
+    VerificationResultEnum verify(String email, String codeHash);
+}
@@ -1,16 +1,26 @@
 package com.sparta.springmid.product.controller;
 
 
+import com.sparta.springmid.global.enums.TotalCountEnum;
 import com.sparta.springmid.global.security.CustomUserDetails;
+import com.sparta.springmid.product.dto.BoardImportResponseDto;
 import com.sparta.springmid.product.dto.BoardRequestDto;
 import com.sparta.springmid.product.dto.BoardResponseDto;
+import com.sparta.springmid.product.dto.ContentVersionDto;
+import com.sparta.springmid.product.dto.CursorPageResponseDto;
+import com.sparta.springmid.product.service.BoardImportService;
 import com.sparta.springmid.product.service.BoardService;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -21,6 +31,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 /**
  * 뉴스피드 컨트롤러 조회를 제외하고는 모두 User의 정보가 필요하다.
@@ -35,6 +46,7 @@ public class BoardController {
      * 보드 서비스
      */
     private final BoardService boardService;
+    private final BoardImportService boardImportService;
 
 
     /**
@@ -51,6 +63,16 @@ public class BoardController {
         return boardService.createBoard(userDetails.getUser(), requestDto);
     }
 
+    /**
+     * 게시글 일괄 등록, 잘못된 게시글은 건너뛰고 순번과 사유를 응답에 담아 줍니다.
+     */
+    @PostMapping("/boards/import")
+    public BoardImportResponseDto importBoards(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestBody List<BoardRequestDto> requestDtos) {
+        return boardImportService.importBoards(userDetails.getUser(), requestDtos);
+    }
+
     /**
      * 뉴스피드 내용 불러오기
      */
@@ -59,20 +81,33 @@ public class BoardController {
         return boardService.findAll();
     }
 
+    /**
+     * 뉴스피드 내용 스트리밍, Accept: application/x-ndjson 으로 요청하면 게시글을 한 줄씩 내려줍니다.
+     */
+    @GetMapping(value = "/boards", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void streamAll(HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        boardService.streamAll(response.getOutputStream());
+    }
+
 
     // 10개씩 페이지네이션하여, 각 페이지 당 뉴스피드 데이터가 10개씩 최신순으로 나오게 합니다.
+    // 전체 개수는 total=exact(정확한 개수) 또는 total=approx(추정치)로 요청했을 때만 포함합니다.
     @GetMapping("/boards/recently/{page}")
-    public Optional<Object> findAllRecentlyPagination(@PathVariable int page) {
+    public Optional<Object> findAllRecentlyPagination(@PathVariable int page,
+            @RequestParam(defaultValue = "none") String total) {
 
         // ex) 1페이지 조회시 -> index는 0으로 들어가므로 -1을 해줌
-        return boardService.findAllRecentlyPagination(page - 1);
+        return boardService.findAllRecentlyPagination(page - 1, TotalCountEnum.from(total));
     }
 
     // 좋아요 개수가 많은 순서대로 정렬 (페이지 당 뉴스피드 데이터 = 10개 고정)
     @GetMapping("/boards/like/{page}")
-    public Optional<Object> findAllLikesPagination(@PathVariable int page) {
+    public Optional<Object> findAllLikesPagination(@PathVariable int page,
+            @RequestParam(defaultValue = "none") String total) {
 
-        return boardService.findAllLikesPagination(page - 1);
+        return boardService.findAllLikesPagination(page - 1, TotalCountEnum.from(total));
     }
 
     /**
@@ -82,22 +117,68 @@ public class BoardController {
     public Optional<Object> findAllDatePagination(
             @PathVariable int page,
             @RequestParam String startTime,
-            @RequestParam String endTime) {
+            @RequestParam String endTime,
+            @RequestParam(defaultValue = "none") String total) {
 
         // LocalDate.parse를 사용하여 문자열을 LocalDate로 파싱
         LocalDate startDate = LocalDate.parse(startTime);
         LocalDate endDate = LocalDate.parse(endTime);
 
-        // LocalDateTime으로 변환
-        LocalDateTime startDateTime = startDate.atStartOfDay();
-        LocalDateTime endDateTime = endDate.atTime(23, 59, 59);
+        return boardService.findAllDatePagination(page - 1, startDate, endDate,
+                TotalCountEnum.from(total));
+    }
+
+    /**
+     * 커서 기반 최신순 조회, 응답의 nextCursor 를 다음 요청의 cursor 로 넘기면 이어서 10개씩 조회합니다.
+     */
+    @GetMapping("/boards/recently/cursor")
+    public CursorPageResponseDto<BoardResponseDto> findRecentlyByCursor(
+            @RequestParam(required = false) String cursor) {
+        return boardService.findRecentlyByCursor(cursor);
+    }
+
+    // 커서 기반 좋아요순 조회
+    @GetMapping("/boards/like/cursor")
+    public CursorPageResponseDto<BoardResponseDto> findLikesByCursor(
+            @RequestParam(required = false) String cursor) {
+        return boardService.findLikesByCursor(cursor);
+    }
+
+    // 커서 기반 기간별 조회
+    @GetMapping("/boards/date/cursor")
+    public CursorPageResponseDto<BoardResponseDto> findDateByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam String startTime,
+            @RequestParam String endTime) {
 
-        return boardService.findAllDatePagination(page - 1, startDateTime, endDateTime);
+        LocalDateTime startDateTime = LocalDate.parse(startTime).atStartOfDay();
+        LocalDateTime endDateTime = LocalDate.parse(endTime).atTime(23, 59, 59);
+
+        return boardService.findDateByCursor(cursor, startDateTime, endDateTime);
     }
 
+    /**
+     * 제목/내용 검색, 관련도가 높은 순서로 최대 size 개를 조회합니다.
+     */
+    @GetMapping("/boards/search")
+    public Optional<Object> search(@RequestParam String q,
+            @RequestParam(defaultValue = "10") int size) {
+        return boardService.search(q, size);
+    }
 
+    /**
+     * 게시글 단건 조회
+     * <p>
+     * If-None-Match 가 현재 버전과 같으면 본문 없이 304 를 반환합니다. 이 경우에도 조회수는 올라갑니다.
+     * 응답의 조회수에는 아직 반영되지 않은 조회수가 더해지므로 ETag 는 약한(W/) ETag 입니다.
+     */
     @GetMapping("/boards/{boardId}")
-    public BoardResponseDto findBoard(@PathVariable Long boardId) {
+    public BoardResponseDto findBoard(@PathVariable Long boardId, WebRequest webRequest) {
+        ContentVersionDto version = boardService.findBoardVersion(boardId);
+        if (webRequest.checkNotModified(version.getEtag())) {
+            boardService.recordView(boardId);
+            return null;
+        }
         return boardService.findBoard(boardId);
     }
 
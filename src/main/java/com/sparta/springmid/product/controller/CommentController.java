@@ -4,8 +4,14 @@ package com.sparta.springmid.product.controller;
 import com.sparta.springmid.global.security.CustomUserDetails;
 import com.sparta.springmid.product.dto.CommentRequestDto;
 import com.sparta.springmid.product.dto.CommentResponseDto;
+import com.sparta.springmid.product.dto.ContentVersionDto;
+import com.sparta.springmid.product.dto.CursorPageResponseDto;
 import com.sparta.springmid.product.service.CommentService;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -15,7 +21,9 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 /**
  * 이 Controller 게시글에 종속된 댓글의 요청을 받고 반환합니다.
@@ -56,12 +64,19 @@ public class CommentController {
 
     /**
      * 게시글 하나에 종속된 모든 댓글을 조회하고 댓글이 없다면 댓글 작성 문구를 보여줍니다.
+     * <p>
+     * If-None-Match 가 현재 댓글 목록의 버전과 같으면 댓글을 조회하지 않고 304 를 반환합니다.
      *
-     * @param boardId 게시글 고유번호
+     * @param boardId    게시글 고유번호
+     * @param webRequest 조건부 요청 헤더 확인과 ETag 응답 헤더 설정에 사용합니다.
      * @return 댓글의 작성 문구를 보여주거나 댓글의 내용을 보여줍니다.
      */
     @GetMapping("/{boardId}/comments")
-    public ResponseEntity<?> getAllComments(@PathVariable Long boardId) {
+    public ResponseEntity<?> getAllComments(@PathVariable Long boardId, WebRequest webRequest) {
+        ContentVersionDto version = commentService.getCommentsVersion(boardId);
+        if (webRequest.checkNotModified(version.getEtag())) {
+            return null;
+        }
         List<CommentResponseDto> comments = commentService.getAllComments(boardId);
         if (comments.isEmpty()) {
             return ResponseEntity.ok("먼저 작성하여 댓글을 남겨보세요!");
@@ -70,6 +85,36 @@ public class CommentController {
         }
     }
 
+    /**
+     * 게시글 하나에 종속된 댓글을 최신순으로 size 개씩 조회합니다. 응답의 nextCursor 를 다음 요청의 cursor 로 넘기면 이어서 조회합니다.
+     *
+     * @param boardId 게시글 고유번호
+     * @param cursor  이전 응답의 nextCursor, 첫 페이지는 생략
+     * @param size    페이지 크기 (기본 20, 최대 100)
+     * @return 댓글 한 페이지와 다음 커서
+     */
+    @GetMapping("/{boardId}/comments/cursor")
+    public CursorPageResponseDto<CommentResponseDto> getCommentsByCursor(
+            @PathVariable Long boardId, @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        return commentService.getCommentsByCursor(boardId, cursor, size);
+    }
+
+    /**
+     * Accept: application/x-ndjson 으로 요청하면 게시글 하나에 종속된 모든 댓글을 한 줄에 하나씩 내려줍니다.
+     * 댓글을 목록으로 모으지 않고 DB 에서 읽는 대로 응답에 쓰므로 댓글이 많은 게시글도 메모리 사용량이 일정합니다.
+     *
+     * @param boardId  게시글 고유번호
+     * @param response 응답
+     */
+    @GetMapping(value = "/{boardId}/comments", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void streamComments(@PathVariable Long boardId, HttpServletResponse response)
+            throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        commentService.streamComments(boardId, response.getOutputStream());
+    }
+
     /**
      * 게시글 하나에 종속된 하나의 특정 댓글의 사용자를 검증하여 일치하면 내용을 수정 합니다.
      *
@@ -84,7 +129,7 @@ public class CommentController {
             @PathVariable Long commentId, @RequestBody CommentRequestDto requestDto,
             @PathVariable Long boardId) {
         return ResponseEntity.ok()
-                .body(commentService.updateComment(userDetails.getUser().getId(), commentId,
+                .body(commentService.updateComment(userDetails.getId(), commentId,
                         requestDto, boardId));
     }
 
@@ -100,6 +145,6 @@ public class CommentController {
             @AuthenticationPrincipal CustomUserDetails userDetails, @PathVariable Long commentId,
             @PathVariable Long boardId) {
         return ResponseEntity.ok(
-                commentService.deleteComment(userDetails.getUser().getId(), commentId, boardId));
+                commentService.deleteComment(userDetails.getId(), commentId, boardId));
     }
 }
@@ -0,0 +1,34 @@
+package com.sparta.springmid.product.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 게시글 일괄 등록 결과 DTO
+ */
+@Getter
+@AllArgsConstructor
+public class BoardImportResponseDto {
+
+    /**
+     * @int requested   요청한 게시글 수
+     * @int imported    저장된 게시글 수
+     * @int failed      저장하지 못한 게시글 수
+     * @long elapsedMs  처리 시간 (ms)
+     * @List errors     저장하지 못한 게시글의 순번과 사유
+     */
+    private int requested;
+    private int imported;
+    private int failed;
+    private long elapsedMs;
+    private List<RowError> errors;
+
+    /**
+     * @param index   요청 목록에서의 순번 (0부터)
+     * @param message 실패 사유
+     */
+    public record RowError(int index, String message) {
+
+    }
+}
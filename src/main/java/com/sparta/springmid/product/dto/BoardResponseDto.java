@@ -1,7 +1,9 @@
 package com.sparta.springmid.product.dto;
 
+import com.sparta.springmid.global.util.CompressionUtil;
 import com.sparta.springmid.product.model.Board;
 import java.time.LocalDateTime;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
@@ -27,6 +29,10 @@ public class BoardResponseDto {
 
     private String title;
     private String content;
+
+    // 압축된 본문, getContent() 가 처음 불릴 때(응답 직렬화 시) 해제합니다.
+    @Getter(AccessLevel.NONE)
+    private byte[] contentCompressed;
     private Long hits;
     private Long count;
     private LocalDateTime createAt;
@@ -40,9 +46,56 @@ public class BoardResponseDto {
         this.id = board.getId();
         this.title = board.getTitle();
         this.content = board.getContent();
+        this.contentCompressed = board.getContentCompressed();
         this.hits = board.getHits();
         this.count = board.getLikeCount();
         this.createAt = board.getCreatedAt();
         this.modifiedAt = board.getModifiedAt();
     }
+
+    /**
+     * 조회 쿼리에서 컬럼을 바로 받아 만드는 생성자 매서드, {@code SELECT new} 프로젝션에서 사용합니다.
+     */
+    public BoardResponseDto(Long id, String title, String content, byte[] contentCompressed,
+            Long hits, Long count, LocalDateTime createAt, LocalDateTime modifiedAt) {
+        this.id = id;
+        this.title = title;
+        this.content = content;
+        this.contentCompressed = contentCompressed;
+        this.hits = hits;
+        this.count = count;
+        this.createAt = createAt;
+        this.modifiedAt = modifiedAt;
+    }
+
+    /**
+     * 아직 DB 에 반영되지 않은 조회수를 더해 만드는 생성자 매서드
+     *
+     * @param board       캐시되어 있던 게시글 정보
+     * @param pendingHits 반영 대기 중인 조회수
+     */
+    public BoardResponseDto(BoardResponseDto board, long pendingHits) {
+        this.id = board.id;
+        this.title = board.title;
+        this.content = board.content;
+        this.contentCompressed = board.contentCompressed;
+        this.hits = board.hits + pendingHits;
+        this.count = board.count;
+        this.createAt = board.createAt;
+        this.modifiedAt = board.modifiedAt;
+    }
+
+    /**
+     * 게시글 본문, 압축되어 있으면 이때 해제합니다.
+     * <p>
+     * 캐시된 DTO 를 여러 스레드가 동시에 읽어도 각자 같은 값을 해제할 뿐이므로 따로 동기화하지 않습니다.
+     */
+    public String getContent() {
+        String plain = content;
+        if (contentCompressed != null && (plain == null || plain.isEmpty())) {
+            plain = CompressionUtil.inflateToString(contentCompressed);
+            content = plain;
+        }
+        return plain;
+    }
 }
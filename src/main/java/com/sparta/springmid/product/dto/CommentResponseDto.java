@@ -62,4 +62,18 @@ public class CommentResponseDto {
         this.createdAt = comment.getCreatedAt();
         this.modifiedAt = comment.getModifiedAt();
     }
+
+    /**
+     * 조회 쿼리에서 컬럼을 바로 받는 생성자입니다. {@code SELECT new} 프로젝션에서 사용합니다.
+     */
+    public CommentResponseDto(Long id, Long boardId, String content, Long likeCount,
+            LocalDateTime deleteAt, LocalDateTime createdAt, LocalDateTime modifiedAt) {
+        this.id = id;
+        this.boardId = boardId;
+        this.content = content;
+        this.likeCount = likeCount;
+        this.deleteAt = deleteAt;
+        this.createdAt = createdAt;
+        this.modifiedAt = modifiedAt;
+    }
 }
@@ -0,0 +1,33 @@
+package com.sparta.springmid.product.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 조건부 조회(If-None-Match)에 쓰는 버전 정보
+ * <p>
+ * 좋아요 수와 조회수는 수정일자를 바꾸지 않으므로 Last-Modified 는 보내지 않고 ETag 로만 비교합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class ContentVersionDto {
+
+    /**
+     * @String etag 응답 내용이 바뀌면 함께 바뀌는 값, 따옴표까지 포함합니다.
+     */
+    private String etag;
+
+    /**
+     * 응답 본문과 바이트 단위로 일치하는 버전
+     */
+    public static ContentVersionDto strong(String tag) {
+        return new ContentVersionDto("\"" + tag + "\"");
+    }
+
+    /**
+     * 의미상 같은 응답의 버전, 본문의 일부(예: 반영 전 조회수)가 버전에 포함되지 않을 때 씁니다.
+     */
+    public static ContentVersionDto weak(String tag) {
+        return new ContentVersionDto("W/\"" + tag + "\"");
+    }
+}
@@ -0,0 +1,22 @@
+package com.sparta.springmid.product.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 커서 페이지네이션 응답 DTO
+ */
+@Getter
+@AllArgsConstructor
+public class CursorPageResponseDto<T> {
+
+    /**
+     * @List content    이번 페이지의 데이터
+     * @String nextCursor 다음 페이지를 요청할 때 넘겨줄 커서, 마지막 페이지면 null
+     * @boolean hasNext  다음 페이지 존재 여부
+     */
+    private List<T> content;
+    private String nextCursor;
+    private boolean hasNext;
+}
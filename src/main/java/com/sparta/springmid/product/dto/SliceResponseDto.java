@@ -0,0 +1,26 @@
+package com.sparta.springmid.product.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 전체 개수 없이 다음 페이지 여부만 알려주는 페이지 응답 DTO
+ */
+@Getter
+@AllArgsConstructor
+public class SliceResponseDto<T> {
+
+    /**
+     * @List content  이번 페이지의 데이터
+     * @int page      페이지 번호 (1부터 시작)
+     * @int size      페이지 크기
+     * @boolean hasNext 다음 페이지 존재 여부
+     * @Long total    전체 개수, total 파라미터로 요청했을 때만 채워지고 그 외에는 null
+     */
+    private List<T> content;
+    private int page;
+    private int size;
+    private boolean hasNext;
+    private Long total;
+}
@@ -0,0 +1,35 @@
+package com.sparta.springmid.product.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 보관 작업의 진행 위치. 작업이 중간에 멈춰도 다음 실행은 마지막으로 옮긴 id 다음부터 이어갑니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "archive_checkpoints")
+public class ArchiveCheckpoint {
+
+    /**
+     * 보관 단계 이름 (boards, comments, board_comments, board_likes, comment_likes).
+     */
+    @Id
+    @Column(length = 64)
+    private String name;
+
+    /**
+     * 이번 회차에서 마지막으로 옮긴 행의 id, 회차가 끝나면 0 으로 돌아갑니다.
+     */
+    @Column(nullable = false)
+    private Long lastId;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
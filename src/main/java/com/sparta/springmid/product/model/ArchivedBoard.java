@@ -0,0 +1,55 @@
+package com.sparta.springmid.product.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 삭제된 지 보관 기간이 지나 boards 에서 옮겨진 게시글. 컬럼은 boards 와 같고 옮긴 시각만 더합니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "boards_archive")
+public class ArchivedBoard {
+
+    /**
+     * boards 에서 쓰던 고유번호를 그대로 사용합니다.
+     */
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(nullable = false, columnDefinition = "MEDIUMTEXT")
+    private String content;
+
+    @Column(name = "content_compressed", columnDefinition = "LONGBLOB")
+    private byte[] contentCompressed;
+
+    @Column(nullable = false)
+    private Long hits;
+
+    @Column(nullable = false)
+    private Long likeCount;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime modifiedAt;
+
+    private LocalDateTime deletedAt;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    /**
+     * 보관 테이블로 옮긴 시각.
+     */
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+}
@@ -0,0 +1,52 @@
+package com.sparta.springmid.product.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 삭제된 지 보관 기간이 지났거나 게시글과 함께 보관된 댓글. 컬럼은 comments 와 같고 옮긴 시각만 더합니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "comments_archive", indexes = {
+        @Index(name = "idx_comments_archive_board", columnList = "board_id")
+})
+public class ArchivedComment {
+
+    /**
+     * comments 에서 쓰던 고유번호를 그대로 사용합니다.
+     */
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private String content;
+
+    @Column(nullable = false)
+    private Long likeCount;
+
+    @Column(nullable = false)
+    private Long boardId;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime modifiedAt;
+
+    private LocalDateTime deletedAt;
+
+    /**
+     * 보관 테이블로 옮긴 시각.
+     */
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+}
@@ -0,0 +1,50 @@
+package com.sparta.springmid.product.model;
+
+import com.sparta.springmid.global.enums.LikeTypeEnum;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 보관된 게시글/댓글에 눌렸던 좋아요. 컬럼은 likes 와 같고 옮긴 시각만 더합니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "likes_archive", indexes = {
+        @Index(name = "idx_likes_archive_content", columnList = "content_type, content_id")
+})
+public class ArchivedLike {
+
+    /**
+     * likes 에서 쓰던 고유번호를 그대로 사용합니다.
+     */
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private Long contentId;
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private LikeTypeEnum contentType;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    /**
+     * 보관 테이블로 옮긴 시각.
+     */
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+}
@@ -1,6 +1,7 @@
 package com.sparta.springmid.product.model;
 
 
+import com.sparta.springmid.global.util.CompressionUtil;
 import com.sparta.springmid.product.dto.BoardRequestDto;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
@@ -10,6 +11,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
@@ -28,7 +30,12 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 @Entity
 @Getter
 @Setter
-@Table(name = "boards")
+@Table(name = "boards", indexes = {
+        // 최신순, 기간별 피드와 커서 조회: deleted_at IS NULL 조건 뒤에 정렬 순서 그대로 읽습니다.
+        @Index(name = "idx_boards_deleted_created", columnList = "deleted_at, created_at, id"),
+        // 좋아요순 피드와 좋아요 인덱스 재구성
+        @Index(name = "idx_boards_deleted_like", columnList = "deleted_at, like_count, id")
+})
 @NoArgsConstructor
 @EntityListeners(AuditingEntityListener.class)
 public class Board {
@@ -41,9 +48,14 @@ public class Board {
     @Column(nullable = false)
     private String title;
 
-    @Column(nullable = false)
+    // 압축해 저장한 게시글은 빈 문자열이고 본문은 contentCompressed 에 있습니다.
+    @Column(nullable = false, columnDefinition = "MEDIUMTEXT")
     private String content;
 
+    // Deflate 로 압축한 본문, 압축하지 않은 게시글은 null
+    @Column(name = "content_compressed", columnDefinition = "LONGBLOB")
+    private byte[] contentCompressed;
+
     @Column(nullable = false)
     private Long hits;
 
@@ -70,9 +82,12 @@ public class Board {
     @OneToMany(mappedBy = "board", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Comment> comments = new ArrayList<>();
 
-    public Board(User user, BoardRequestDto requestDto) {
+    /**
+     * @param compressedContent 압축한 본문, 압축하지 않으면 null
+     */
+    public Board(User user, BoardRequestDto requestDto, byte[] compressedContent) {
         this.title = requestDto.getTitle();
-        this.content = requestDto.getContent();
+        storeContent(requestDto.getContent(), compressedContent);
         this.hits = 0L;
         this.likeCount = 0L;
         this.modifiedAt = LocalDateTime.now();
@@ -80,14 +95,29 @@ public class Board {
         this.user = user;
     }
 
-    // 조회수 증가
-    public void hitsUp() {
-        this.hits++;
-    }
-
-    public void update(BoardRequestDto requestDto) {
+    public void update(BoardRequestDto requestDto, byte[] compressedContent) {
         this.title = requestDto.getTitle();
-        this.content = requestDto.getContent();
+        storeContent(requestDto.getContent(), compressedContent);
         this.modifiedAt = LocalDateTime.now();
     }
+
+    /**
+     * 소프트 삭제, 보관 배치는 삭제시간을 기준으로 오래된 게시글을 옮기므로 삭제한 시각을 저장합니다.
+     */
+    public void delete() {
+        this.deletedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 압축 여부와 관계없는 게시글 본문
+     */
+    public String getPlainContent() {
+        return contentCompressed == null ? content
+                : CompressionUtil.inflateToString(contentCompressed);
+    }
+
+    private void storeContent(String content, byte[] compressedContent) {
+        this.contentCompressed = compressedContent;
+        this.content = compressedContent == null ? content : "";
+    }
 }
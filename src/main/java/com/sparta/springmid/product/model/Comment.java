@@ -3,9 +3,11 @@ package com.sparta.springmid.product.model;
 import com.sparta.springmid.product.dto.CommentRequestDto;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -18,7 +20,11 @@ import lombok.Setter;
 @Getter
 @Setter
 @NoArgsConstructor
-@Table(name = "comments")
+@Table(name = "comments", indexes = {
+        // 게시글의 삭제되지 않은 댓글을 최신순으로 조회
+        @Index(name = "idx_comments_board_deleted_created",
+                columnList = "board_id, deleted_at, created_at, id")
+})
 public class Comment extends Timestamped {
 
     @Id
@@ -31,17 +37,23 @@ public class Comment extends Timestamped {
     @Column(name = "like_count", nullable = false)
     private Long likeCount;
 
-    @ManyToOne
+    // 좋아요/취소 때마다 1 씩 늘어나는 값, 댓글 목록의 ETag 가 좋아요 변경을 놓치지 않도록 합니다.
+    @Column(name = "like_version", nullable = false)
+    private Long likeVersion;
+
+    // 댓글 조회에는 게시글과 작성자의 id 만 필요하므로 지연 로딩합니다. id 는 프록시에서 바로 꺼내므로 추가 조회가 없습니다.
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "board_id", nullable = false)
     private Board board;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
     public Comment(String content, Board board, User user) {
         this.content = content;
         this.likeCount = 0L;
+        this.likeVersion = 0L;
         this.board = board;
         this.user = user;
     }
@@ -9,6 +9,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -22,7 +23,10 @@ import lombok.NoArgsConstructor;
 @Entity
 @Getter
 @NoArgsConstructor
-@Table(name = "likes")
+@Table(name = "likes", indexes = {
+        // 좋아요 토글 시 사용자, 컨텐츠, 타입으로 내역을 찾습니다.
+        @Index(name = "idx_likes_user_content", columnList = "user_id, content_id, content_type")
+})
 public class Like {
 
     /**
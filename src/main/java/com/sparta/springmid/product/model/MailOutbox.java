@@ -0,0 +1,135 @@
+package com.sparta.springmid.product.model;
+
+import com.sparta.springmid.global.enums.MailStatusEnum;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 보낼 메일을 저장하는 outbox 엔티티 클래스. 요청 트랜잭션에서 저장되고 백그라운드 작업이 전송합니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "mail_outbox", indexes = {
+        @Index(name = "idx_mail_outbox_status_next_attempt", columnList = "status, next_attempt_at")
+})
+public class MailOutbox {
+
+    /**
+     * 메일의 고유번호.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 받는 사람 이메일.
+     */
+    @Column(nullable = false)
+    private String toAddress;
+
+    /**
+     * 메일 제목.
+     */
+    @Column(nullable = false)
+    private String subject;
+
+    /**
+     * 메일 내용.
+     */
+    @Column(nullable = false, length = 4000)
+    private String content;
+
+    /**
+     * 전송 상태.
+     */
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private MailStatusEnum status;
+
+    /**
+     * 전송 시도 횟수.
+     */
+    @Column(nullable = false)
+    private int attempts;
+
+    /**
+     * 다음 전송 시도 시간. 전송 중(SENDING)일 때는 작업자가 메일을 잡아둔 기한입니다.
+     */
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    /**
+     * 마지막 실패 사유.
+     */
+    @Column(length = 500)
+    private String lastError;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime sentAt;
+
+    /**
+     * MailOutbox Entity 의 생성자 입니다.
+     *
+     * @param toAddress 받는 사람 이메일
+     * @param subject   메일 제목
+     * @param content   메일 내용
+     */
+    public MailOutbox(String toAddress, String subject, String content) {
+        this.toAddress = toAddress;
+        this.subject = subject;
+        this.content = content;
+        this.status = MailStatusEnum.PENDING;
+        this.attempts = 0;
+        this.createdAt = LocalDateTime.now();
+        this.nextAttemptAt = this.createdAt;
+    }
+
+    /**
+     * 작업자가 전송하려고 가져감, 기한까지 결과가 기록되지 않으면 다른 작업자가 다시 가져갈 수 있습니다.
+     *
+     * @param leaseUntil 잡아둔 기한
+     */
+    public void claim(LocalDateTime leaseUntil) {
+        this.status = MailStatusEnum.SENDING;
+        this.nextAttemptAt = leaseUntil;
+    }
+
+    public void markSent() {
+        this.status = MailStatusEnum.SENT;
+        this.attempts++;
+        this.sentAt = LocalDateTime.now();
+        this.lastError = null;
+    }
+
+    /**
+     * 전송 실패 처리, 최대 횟수 전까지는 지수적으로 늘어나는 간격으로 재시도합니다.
+     *
+     * @param error         실패 사유
+     * @param maxAttempts   최대 시도 횟수
+     * @param backoffMillis 첫 재시도 간격
+     */
+    public void markFailed(String error, int maxAttempts, long backoffMillis) {
+        this.attempts++;
+        this.lastError = error == null || error.length() <= 500 ? error : error.substring(0, 500);
+        if (this.attempts >= maxAttempts) {
+            this.status = MailStatusEnum.FAILED;
+            return;
+        }
+        long delay = backoffMillis << Math.min(this.attempts - 1, 16);
+        this.status = MailStatusEnum.PENDING;
+        this.nextAttemptAt = LocalDateTime.now().plusNanos(delay * 1_000_000);
+    }
+}
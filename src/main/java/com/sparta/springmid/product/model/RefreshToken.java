@@ -0,0 +1,93 @@
+package com.sparta.springmid.product.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 리프레시 토큰 엔티티 클래스. 토큰 원문 대신 SHA-256 해시를 저장합니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "refresh_tokens", indexes = {
+        @Index(name = "idx_refresh_tokens_family_id", columnList = "family_id"),
+        @Index(name = "idx_refresh_tokens_expires_at", columnList = "expires_at")
+})
+public class RefreshToken {
+
+    /**
+     * 리프레시 토큰의 고유번호.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 토큰의 SHA-256 해시 (16진수 64자리).
+     */
+    @Column(name = "token_hash", nullable = false, unique = true, length = 64)
+    private String tokenHash;
+
+    /**
+     * 로그인 한 번에서 시작된 재발급 체인의 식별자. 재사용이 감지되면 같은 family 의 토큰을 모두 폐지합니다.
+     */
+    @Column(name = "family_id", nullable = false, length = 36)
+    private String familyId;
+
+    /**
+     * 토큰을 발급받은 사용자.
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    /**
+     * 토큰 만료 시간.
+     */
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    /**
+     * 재발급에 이미 사용된 토큰인지 여부.
+     */
+    @Column(nullable = false)
+    private boolean used;
+
+    /**
+     * 토큰 발급 시간.
+     */
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * RefreshToken Entity 의 생성자 입니다.
+     *
+     * @param tokenHash 토큰 해시
+     * @param familyId  재발급 체인 식별자
+     * @param user      사용자 객체
+     * @param expiresAt 만료 시간
+     */
+    public RefreshToken(String tokenHash, String familyId, User user, LocalDateTime expiresAt) {
+        this.tokenHash = tokenHash;
+        this.familyId = familyId;
+        this.user = user;
+        this.expiresAt = expiresAt;
+        this.used = false;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public boolean isExpired() {
+        return this.expiresAt.isBefore(LocalDateTime.now());
+    }
+}
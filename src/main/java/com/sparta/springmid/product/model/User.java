@@ -11,6 +11,7 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import java.time.LocalDateTime;
 import lombok.Getter;
@@ -21,7 +22,10 @@ import lombok.Getter;
 
 @Entity
 @Getter
-@Table(name = "users")
+@Table(name = "users", indexes = {
+        // 로그인과 토큰 인증 시 아이디와 상태로 유저를 찾습니다.
+        @Index(name = "idx_users_username_status", columnList = "username, status")
+})
 public class User extends Timestamped {
 
     @Id
@@ -46,12 +50,13 @@ public class User extends Timestamped {
     @Enumerated(EnumType.STRING)
     private StatusEnum status = StatusEnum.ACTIVE;
 
-    private String refreshToken;
-
-    //토큰 폐지
+    // 예전 토큰 폐지 플래그, 폐지 여부는 tokensRevokedAt 으로 판단합니다. (NOT NULL 컬럼이라 필드는 유지)
     @Column(nullable = false)
     private boolean expired = false;
 
+    // 토큰 폐지 시각, 이 시각까지 발급된 토큰은 모두 폐지됩니다.
+    private LocalDateTime tokensRevokedAt;
+
     public User() {
     }
 
@@ -91,15 +96,9 @@ public class User extends Timestamped {
         this.status = StatusEnum.VERYFICATION;
     }
 
-    public void updateToken(String refreshToken) {
-        this.refreshToken = refreshToken;
-    }
-
-    public void setExpired(boolean b) {
-        this.expired = b;
-    }
-
-    public boolean isExpired() {
-        return this.expired;
+    // 로그아웃, 탈퇴 시 지금까지 발급된 토큰을 폐지한다.
+    public LocalDateTime revokeTokens() {
+        this.tokensRevokedAt = LocalDateTime.now();
+        return this.tokensRevokedAt;
     }
 }
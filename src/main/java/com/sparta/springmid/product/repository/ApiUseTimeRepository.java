@@ -8,4 +8,6 @@ import org.springframework.data.jpa.repository.JpaRepository;
 
 public interface ApiUseTimeRepository extends JpaRepository<ApiUseTime, Long> {
     Optional<ApiUseTime> findByUser(User user);
+
+    Optional<ApiUseTime> findByUserId(Long userId);
 }
\ No newline at end of file
@@ -1,33 +1,173 @@
 package com.sparta.springmid.product.repository;
 
+import com.sparta.springmid.product.dto.BoardResponseDto;
 import com.sparta.springmid.product.model.Board;
+import java.util.Collection;
+import jakarta.persistence.QueryHint;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
-import org.springframework.data.domain.Page;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 public interface BoardRepository extends JpaRepository<Board, Long> {
 
+    /*
+     * 목록 조회는 엔티티 대신 BoardResponseDto 로 바로 조회합니다.
+     * 영속성 컨텍스트에 등록되지 않으므로 변경 감지용 스냅샷을 만들지 않고, 필요한 컬럼만 읽습니다.
+     */
+    String BOARD_RESPONSE = "SELECT new com.sparta.springmid.product.dto.BoardResponseDto("
+            + "b.id, b.title, b.content, b.contentCompressed, b.hits, b.likeCount, b.createdAt,"
+            + " b.modifiedAt)"
+            + " FROM Board b";
 
     Optional<Board> findByIdAndDeletedAtIsNull(Long id);
 
     // DeletedAt이 Not Null 인 경우 삭제된 게시글
-    List<Board> findAllByDeletedAtIsNullOrderByCreatedAtDesc();
+    @Query(BOARD_RESPONSE + " WHERE b.deletedAt IS NULL ORDER BY b.createdAt DESC")
+    List<BoardResponseDto> findAllResponses();
+
+    /**
+     * 삭제되지 않은 게시글 전체를 한 행씩 읽어오는 스트림입니다.
+     * <p>
+     * MySQL 드라이버는 fetch size 가 Integer.MIN_VALUE 일 때 결과를 한 번에 메모리에 올리지 않고 행 단위로 스트리밍합니다.
+     * 트랜잭션 안에서 사용하고 다 쓴 뒤에는 닫아야 합니다.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "-2147483648"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(BOARD_RESPONSE + " WHERE b.deletedAt IS NULL ORDER BY b.createdAt DESC")
+    Stream<BoardResponseDto> streamAllResponses();
+
+    // id 목록에 해당하는 삭제되지 않은 게시글, 순서는 보장하지 않습니다.
+    @Query(BOARD_RESPONSE + " WHERE b.id IN :boardIds AND b.deletedAt IS NULL")
+    List<BoardResponseDto> findResponsesByIdIn(@Param("boardIds") Collection<Long> boardIds);
+
+    /**
+     * 삭제되지 않은 게시글의 (id, modifiedAt) 만 한 행씩 읽어오는 스트림입니다.
+     * <p>
+     * 검색 색인이 저장된 세그먼트와 DB 를 비교할 때 본문을 읽지 않기 위해 사용합니다.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "-2147483648"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT b.id, b.modifiedAt FROM Board b WHERE b.deletedAt IS NULL")
+    Stream<Object[]> streamLiveVersions();
+
+    // 최신순으로 Paging, Slice 는 페이지 크기보다 하나 더 조회해 다음 페이지 여부만 판단하고 COUNT 쿼리는 실행하지 않습니다.
+    @Query(BOARD_RESPONSE + " WHERE b.deletedAt IS NULL ORDER BY b.createdAt DESC")
+    Slice<BoardResponseDto> findRecentResponses(Pageable pageable);
+
+    // 좋아요순으로 Paging, 좋아요 인덱스와 같은 순서가 되도록 좋아요 수가 같으면 id 내림차순으로 정렬합니다.
+    @Query(BOARD_RESPONSE + " WHERE b.deletedAt IS NULL ORDER BY b.likeCount DESC, b.id DESC")
+    Slice<BoardResponseDto> findMostLikedResponses(Pageable pageable);
+
+    /**
+     * 기간 내 삭제되지 않은 게시글 id 를 최신순으로 조회합니다. 날짜별 묶음을 만들 때 사용합니다.
+     *
+     * @param from 시작 시각 (포함)
+     * @param to   끝 시각 (제외)
+     * @return 게시글 id 목록
+     */
+    @Query("SELECT b.id FROM Board b WHERE b.deletedAt IS NULL"
+            + " AND b.createdAt >= :from AND b.createdAt < :to"
+            + " ORDER BY b.createdAt DESC, b.id DESC")
+    List<Long> findIdsCreatedBetween(@Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to);
+
+    // 삭제되지 않은 가장 오래된 게시글의 작성일자, 게시글이 없으면 null
+    @Query("SELECT MIN(b.createdAt) FROM Board b WHERE b.deletedAt IS NULL")
+    LocalDateTime findFirstCreatedAt();
+
+    // 삭제되지 않은 게시글 수, total 을 요청했을 때만 사용합니다.
+    long countByDeletedAtIsNull();
+
+
+    /*
+     * 커서 페이지네이션
+     * 마지막으로 본 게시글의 정렬 키보다 뒤에 있는 게시글부터 읽으므로 OFFSET 없이 몇 번째 페이지든 같은 비용으로 조회합니다.
+     * 정렬 키가 같은 게시글은 id 로 순서를 정해 누락이나 중복이 생기지 않게 합니다.
+     */
 
-    // 최신순으로 Paging
-    Page<Board> findAllByDeletedAtIsNullOrderByCreatedAtDesc(Pageable pageable);
+    // 최신순 첫 페이지
+    @Query(BOARD_RESPONSE + " WHERE b.deletedAt IS NULL ORDER BY b.createdAt DESC, b.id DESC")
+    List<BoardResponseDto> findRecentFirst(Pageable pageable);
 
-    // 좋아요순으로 Paging
-    Page<Board> findAllByDeletedAtIsNullOrderByLikeCountDesc(Pageable pageable);
+    // 최신순 다음 페이지
+    @Query(BOARD_RESPONSE + " WHERE b.deletedAt IS NULL"
+            + " AND (b.createdAt < :createdAt OR (b.createdAt = :createdAt AND b.id < :id))"
+            + " ORDER BY b.createdAt DESC, b.id DESC")
+    List<BoardResponseDto> findRecentAfter(@Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id, Pageable pageable);
+
+    // 좋아요순 첫 페이지
+    @Query(BOARD_RESPONSE + " WHERE b.deletedAt IS NULL ORDER BY b.likeCount DESC, b.id DESC")
+    List<BoardResponseDto> findMostLikedFirst(Pageable pageable);
+
+    // 좋아요순 다음 페이지
+    @Query(BOARD_RESPONSE + " WHERE b.deletedAt IS NULL"
+            + " AND (b.likeCount < :likeCount OR (b.likeCount = :likeCount AND b.id < :id))"
+            + " ORDER BY b.likeCount DESC, b.id DESC")
+    List<BoardResponseDto> findMostLikedAfter(@Param("likeCount") Long likeCount,
+            @Param("id") Long id, Pageable pageable);
+
+    // 기간별 첫 페이지
+    @Query(BOARD_RESPONSE + " WHERE b.deletedAt IS NULL"
+            + " AND b.createdAt BETWEEN :startDateTime AND :endDateTime"
+            + " ORDER BY b.createdAt DESC, b.id DESC")
+    List<BoardResponseDto> findBetweenFirst(@Param("startDateTime") LocalDateTime startDateTime,
+            @Param("endDateTime") LocalDateTime endDateTime, Pageable pageable);
+
+    // 기간별 다음 페이지
+    @Query(BOARD_RESPONSE + " WHERE b.deletedAt IS NULL"
+            + " AND b.createdAt BETWEEN :startDateTime AND :endDateTime"
+            + " AND (b.createdAt < :createdAt OR (b.createdAt = :createdAt AND b.id < :id))"
+            + " ORDER BY b.createdAt DESC, b.id DESC")
+    List<BoardResponseDto> findBetweenAfter(@Param("startDateTime") LocalDateTime startDateTime,
+            @Param("endDateTime") LocalDateTime endDateTime,
+            @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+            Pageable pageable);
+
+    /**
+     * 좋아요순 상위 게시글의 id 와 좋아요 수, 좋아요 인덱스를 만들 때 사용합니다.
+     *
+     * @param pageable 조회할 개수
+     * @return [id, likeCount] 목록
+     */
+    @Query("SELECT b.id, b.likeCount FROM Board b WHERE b.deletedAt IS NULL"
+            + " ORDER BY b.likeCount DESC, b.id DESC")
+    List<Object[]> findTopLikeCounts(Pageable pageable);
+
+    /**
+     * 삭제되지 않은 게시글 하나의 현재 좋아요 수
+     *
+     * @param boardId 게시판 고유번호
+     * @return 좋아요 수, 없거나 삭제된 게시글이면 empty
+     */
+    @Query("SELECT b.likeCount FROM Board b WHERE b.id = :boardId AND b.deletedAt IS NULL")
+    Optional<Long> findLikeCountById(@Param("boardId") Long boardId);
+
+    /**
+     * 삭제되지 않은 게시글 하나의 버전 정보, 조건부 조회에서 본문을 읽지 않고 변경 여부를 판단할 때 사용합니다.
+     *
+     * @param boardId 게시판 고유번호
+     * @return [modifiedAt, likeCount, hits], 없거나 삭제된 게시글이면 빈 목록
+     */
+    @Query("SELECT b.modifiedAt, b.likeCount, b.hits FROM Board b"
+            + " WHERE b.id = :boardId AND b.deletedAt IS NULL")
+    List<Object[]> findVersionById(@Param("boardId") Long boardId);
 
-    // 기간별 Paging
-    Page<Board> findAllByDeletedAtIsNullAndCreatedAtBetweenOrderByCreatedAtDesc(
-            LocalDateTime startDateTime, LocalDateTime endDateTime, Pageable pageable);
+    boolean existsByIdAndDeletedAtIsNull(Long id);
 
     /**
      * 좋아요 내역이 저장되었을때 게시판 좋아요 필드값을 증가시키는 쿼리문입니다.
@@ -48,5 +188,7 @@ public interface BoardRepository extends JpaRepository<Board, Long> {
     void decrementLikeCount(@Param("boardId") Long boardId);
 
 
+    // 회원 탈퇴 시 게시글과 댓글을 함께 지우므로 댓글까지 한 번에 읽습니다.
+    @EntityGraph(attributePaths = "comments")
     List<Board> findByUserId(Long userId);
 }
@@ -1,23 +1,90 @@
 package com.sparta.springmid.product.repository;
 
 
+import com.sparta.springmid.product.dto.CommentResponseDto;
 import com.sparta.springmid.product.model.Comment;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
+    // 게시글 하나의 삭제되지 않은 댓글을 응답 DTO 로 바로 조회합니다. 게시글은 삭제 여부 확인을 위해 조인합니다.
+    String LIVE_COMMENTS_OF_BOARD =
+            "SELECT new com.sparta.springmid.product.dto.CommentResponseDto("
+            + "c.id, b.id, c.content, c.likeCount, c.deletedAt, c.createdAt, c.modifiedAt)"
+            + " FROM Comment c JOIN c.board b"
+            + " WHERE b.id = :boardId AND b.deletedAt IS NULL AND c.deletedAt IS NULL";
+
     /**
      * 생성일자 내림차순으로 게시판 하나의 종속된 삭제되지않은 모든 댓글을 조회합니다.
+     * <p>
+     * 엔티티 대신 응답 DTO 로 바로 조회하므로 영속성 컨텍스트에 등록되지 않고, 게시글의 삭제 여부도 같은 쿼리에서 확인합니다.
+     * 게시글이 없거나 삭제되었으면 빈 목록입니다.
      *
      * @param boardId 게시글 고유번호
      * @return 댓글 상세정보 목록
      */
-    Optional<List<Comment>> findByDeletedAtNullAndBoardIdOrderByCreatedAtDesc(Long boardId);
+    @Query(LIVE_COMMENTS_OF_BOARD + " ORDER BY c.createdAt DESC")
+    List<CommentResponseDto> findResponsesByBoardId(@Param("boardId") Long boardId);
+
+    /*
+     * 커서 페이지네이션
+     * 마지막으로 본 댓글의 (createdAt, id) 보다 뒤에 있는 댓글부터 읽으므로 댓글 수와 관계없이 같은 비용으로 조회합니다.
+     * (board_id, deleted_at, created_at, id) 인덱스 순서 그대로 읽습니다.
+     */
+
+    // 첫 페이지
+    @Query(LIVE_COMMENTS_OF_BOARD + " ORDER BY c.createdAt DESC, c.id DESC")
+    List<CommentResponseDto> findPageFirst(@Param("boardId") Long boardId, Pageable pageable);
+
+    // 다음 페이지
+    @Query(LIVE_COMMENTS_OF_BOARD
+            + " AND (c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.id < :id))"
+            + " ORDER BY c.createdAt DESC, c.id DESC")
+    List<CommentResponseDto> findPageAfter(@Param("boardId") Long boardId,
+            @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+            Pageable pageable);
+
+    /**
+     * 게시글 하나의 삭제되지 않은 댓글 전체를 한 행씩 읽어오는 스트림입니다. 트랜잭션 안에서 사용하고 다 쓴 뒤에는 닫아야 합니다.
+     *
+     * @param boardId 게시글 고유번호
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "-2147483648"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(LIVE_COMMENTS_OF_BOARD + " ORDER BY c.createdAt DESC, c.id DESC")
+    Stream<CommentResponseDto> streamResponsesByBoardId(@Param("boardId") Long boardId);
+
+    /**
+     * 게시글 하나의 댓글 목록의 버전 정보입니다.
+     * <p>
+     * 게시글에서 댓글로 외부 조인하므로 게시글이 없거나 삭제되었는지도 같은 쿼리로 확인합니다.
+     * 삭제된 댓글까지 포함해 집계하므로 댓글이 추가되거나 수정/삭제되면 최근 변경시간이 바뀝니다.
+     * 좋아요는 수정일자를 바꾸지 않으므로 좋아요/취소 때마다 1 씩 늘어나는 likeVersion 의 합계로 따로 확인합니다.
+     * 좋아요만 바뀌는 동안에는 합계가 계속 커지므로 이전 값으로 돌아가지 않습니다.
+     *
+     * @param boardId 게시글 고유번호
+     * @return [삭제되지 않은 댓글 수, 최근 변경시간, 좋아요 버전 합계] 한 행, 게시글이 없거나 삭제되었으면 빈 목록
+     */
+    @Query("SELECT COALESCE(SUM(CASE WHEN c.id IS NOT NULL AND c.deletedAt IS NULL"
+            + " THEN 1 ELSE 0 END), 0),"
+            + " MAX(COALESCE(c.deletedAt, c.modifiedAt)),"
+            + " COALESCE(SUM(CASE WHEN c.deletedAt IS NULL THEN c.likeVersion ELSE 0 END), 0)"
+            + " FROM Board b LEFT JOIN b.comments c"
+            + " WHERE b.id = :boardId AND b.deletedAt IS NULL GROUP BY b.id")
+    List<Object[]> findListVersionByBoardId(@Param("boardId") Long boardId);
 
     /**
      * 좋아요 내역이 저장되었을때 댓글 좋아요 필드값을 증가시키는 쿼리문입니다.
@@ -25,7 +92,8 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
      * @param commentId 댓글 고유번호
      */
     @Modifying
-    @Query("UPDATE Comment c SET c.likeCount = c.likeCount + 1 WHERE c.id = :commentId")
+    @Query("UPDATE Comment c SET c.likeCount = c.likeCount + 1, c.likeVersion = c.likeVersion + 1"
+            + " WHERE c.id = :commentId")
     void incrementLikeCount(@Param("commentId") Long commentId);
 
     /**
@@ -34,7 +102,8 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
      * @param commentId 댓글 고유번호
      */
     @Modifying
-    @Query("UPDATE Comment c SET c.likeCount = c.likeCount - 1 WHERE c.id = :commentId")
+    @Query("UPDATE Comment c SET c.likeCount = c.likeCount - 1, c.likeVersion = c.likeVersion + 1"
+            + " WHERE c.id = :commentId")
     void decrementLikeCount(@Param("commentId") Long commentId);
 
     /**
@@ -0,0 +1,36 @@
+package com.sparta.springmid.product.repository;
+
+import com.sparta.springmid.global.enums.MailStatusEnum;
+import com.sparta.springmid.product.model.MailOutbox;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * MailOutbox Entity 와 DB 간의 상호작용을 담당합니다.
+ */
+public interface MailOutboxRepository extends JpaRepository<MailOutbox, Long> {
+
+    /**
+     * 전송할 차례가 된 메일을 잠금과 함께 조회합니다. 다른 작업자가 잠근 행은 건너뜁니다 (SKIP LOCKED).
+     *
+     * @param statuses 전송 상태 (대기 중, 기한이 지난 전송 중)
+     * @param now      기준 시간
+     * @param pageable 한 번에 가져올 개수
+     * @return 전송할 메일 목록
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT m FROM MailOutbox m WHERE m.status IN :statuses AND m.nextAttemptAt <= :now "
+            + "ORDER BY m.id")
+    List<MailOutbox> findDueForUpdate(@Param("statuses") Collection<MailStatusEnum> statuses,
+            @Param("now") LocalDateTime now, Pageable pageable);
+}
@@ -0,0 +1,65 @@
+package com.sparta.springmid.product.repository;
+
+import com.sparta.springmid.product.model.RefreshToken;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * RefreshToken Entity 와 DB 간의 상호작용을 담당합니다.
+ */
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+
+    /**
+     * 토큰 해시로 리프레시 토큰과 사용자를 한 번에 조회합니다.
+     *
+     * @param tokenHash 토큰 해시
+     * @return 리프레시 토큰
+     */
+    @Query("SELECT r FROM RefreshToken r JOIN FETCH r.user WHERE r.tokenHash = :tokenHash")
+    Optional<RefreshToken> findWithUserByTokenHash(@Param("tokenHash") String tokenHash);
+
+    /**
+     * 아직 사용되지 않은 토큰만 사용 처리합니다. 동시에 같은 토큰을 사용 처리하면 먼저 커밋한 쪽만 1을 받습니다.
+     *
+     * @param tokenHash 토큰 해시
+     * @return 사용 처리된 토큰 수, 이미 사용된 토큰이면 0
+     */
+    @Modifying
+    @Query("UPDATE RefreshToken r SET r.used = true"
+            + " WHERE r.tokenHash = :tokenHash AND r.used = false")
+    int markUsed(@Param("tokenHash") String tokenHash);
+
+    /**
+     * 같은 재발급 체인의 토큰을 모두 삭제합니다.
+     *
+     * @param familyId 재발급 체인 식별자
+     * @return 삭제된 토큰 수
+     */
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.familyId = :familyId")
+    int deleteByFamilyId(@Param("familyId") String familyId);
+
+    /**
+     * 사용자의 토큰을 모두 삭제합니다.
+     *
+     * @param userId 사용자 고유번호
+     * @return 삭제된 토큰 수
+     */
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.user.id = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+
+    /**
+     * 만료된 토큰을 일괄 삭제합니다.
+     *
+     * @param now 기준 시간
+     * @return 삭제된 토큰 수
+     */
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -2,8 +2,12 @@ package com.sparta.springmid.product.repository;
 
 import com.sparta.springmid.global.enums.StatusEnum;
 import com.sparta.springmid.product.model.User;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 
 /**
@@ -21,7 +25,14 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     Boolean existsByUsername(String username);
 
-    Optional<User> findByRefreshToken(String token);
-
     Optional<User> findUserByUsernameAndStatus(String username, StatusEnum statusEnum);
+
+    /**
+     * 해당 시각 이후에 토큰을 폐지한 유저의 고유번호와 폐지 시각을 조회하는 쿼리문
+     *
+     * @param since 조회 기준 시각
+     * @return [유저 고유번호, 폐지 시각] 목록
+     */
+    @Query("SELECT u.id, u.tokensRevokedAt FROM User u WHERE u.tokensRevokedAt > :since")
+    List<Object[]> findTokenRevocationsSince(@Param("since") LocalDateTime since);
 }
@@ -1,16 +1,19 @@
 package com.sparta.springmid.product.service;
 
 import com.sparta.springmid.global.config.MailManager;
+import com.sparta.springmid.global.enums.StatusEnum;
 import com.sparta.springmid.global.jwt.TokenProvider;
+import com.sparta.springmid.global.security.CustomUserDetails;
 import com.sparta.springmid.global.util.SHA256Util;
+import com.sparta.springmid.global.verification.VerificationCodeStore;
 import com.sparta.springmid.product.dto.TokenDto;
+import com.sparta.springmid.product.model.RefreshToken;
 import com.sparta.springmid.product.model.User;
-import com.sparta.springmid.product.repository.UserRepository;
-import java.util.Optional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -26,44 +29,47 @@ public class AuthService{
     /**
      * 관련 클래스 호출
      */
-    private final UserRepository userRepository;
+    private final RefreshTokenService refreshTokenService;
     private final TokenProvider tokenProvider;
     private final MailManager mailManager;
-    private static String magickey="";
+    private final VerificationCodeStore verificationCodeStore;
 
 
     /**
      * 토큰 재발급 메서드
+     * 리프레시 토큰 해시로 한 번 조회하고, 새 토큰을 같은 재발급 체인으로 저장합니다.
      * @param refreshToken
      * @return
      */
-    @Transactional
+    @Transactional(noRollbackFor = IllegalArgumentException.class)
     public TokenDto reissue(String refreshToken) {
-        Optional<User> user = userRepository.findByRefreshToken(refreshToken);
-        if(user!=null && !user.get().getRefreshToken().equals(refreshToken)){
-            throw new RuntimeException("잘못된 토큰입니다.");
-        }else if(user.get().isExpired()){
-            throw new RuntimeException("폐지된 토큰입니다.");
+        RefreshToken used = refreshTokenService.use(refreshToken);
+        User user = used.getUser();
+        if (user.getStatus() != StatusEnum.ACTIVE) {
+            throw new IllegalArgumentException("폐지된 토큰입니다.");
         }
-        Authentication authentication = tokenProvider.getAuthentication(refreshToken.substring(7));
+        CustomUserDetails userDetails = new CustomUserDetails(user);
+        Authentication authentication = new UsernamePasswordAuthenticationToken(userDetails, "",
+                userDetails.getAuthorities());
         TokenDto tokenDto = tokenProvider.generateToken(authentication);
-        user.get().updateToken(tokenDto.getRefreshToken());
+        refreshTokenService.rotate(used, tokenDto.getRefreshToken());
         return tokenDto;
     }
 
     /**
      * 메일 전송 메서드
+     * 메일은 outbox 에 저장만 하고 바로 응답하며, 전송은 백그라운드에서 처리됩니다.
      * @param email
      * @return
      */
+    @Transactional
     public ResponseEntity<String> sendMail(String email){
         UUID uuid = UUID.randomUUID();
         String key = uuid.toString().substring(0,7);
         String sub = "인증번호 메일 전송";
         String content = "인증번호 : " + key;
         mailManager.send(email, sub, content);
-        magickey = SHA256Util.getEncrypt(key, email);
-        log.info(magickey);
+        verificationCodeStore.save(email, SHA256Util.getEncrypt(key, email));
         return ResponseEntity.ok(key);
     }
 
@@ -73,15 +79,15 @@ public class AuthService{
      * @param email
      * @return
      */
-    @Transactional
     public ResponseEntity<String> checkMail(String key, String email){
         String insertKey = SHA256Util.getEncrypt(key, email);
-        if (!magickey.equals(insertKey)){
-            return ResponseEntity.status(403).body("잘못된 키 입력입니다");
-        }
-        return ResponseEntity.status(202).body("인증 완료");
+        return switch (verificationCodeStore.verify(email, insertKey)) {
+            case VERIFIED -> ResponseEntity.status(202).body("인증 완료");
+            case MISMATCH -> ResponseEntity.status(403).body("잘못된 키 입력입니다");
+            case NOT_FOUND -> ResponseEntity.status(403).body("인증 요청이 없거나 만료되었습니다");
+            case TOO_MANY_ATTEMPTS -> ResponseEntity.status(429)
+                    .body("시도 횟수를 초과했습니다. 인증번호를 다시 요청해주세요");
+        };
     }
 
 }
-
-
@@ -0,0 +1,48 @@
+package com.sparta.springmid.product.service;
+
+import com.sparta.springmid.global.util.CompressionUtil;
+import java.nio.charset.StandardCharsets;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시글 본문 압축 여부 결정
+ * <p>
+ * UTF-8 로 threshold-bytes 이상인 본문만 압축하고, 압축해도 10% 이상 줄지 않으면 원문 그대로 저장합니다.
+ * 압축된 본문은 boards.content_compressed 에 저장되고 boards.content 는 빈 문자열로 둡니다.
+ * <p>
+ * 압축된 본문은 DB 에서 바로 읽거나 검색할 수 없으므로 기본은 꺼져 있고, board.content.compression.enabled 로 켭니다.
+ */
+@Component
+public class BoardContentCompressor {
+
+    private static final double MAX_RATIO = 0.9;
+
+    private final boolean enabled;
+    private final int thresholdBytes;
+
+    public BoardContentCompressor(
+            @Value("${board.content.compression.enabled:false}") boolean enabled,
+            @Value("${board.content.compression.threshold-bytes:1024}") int thresholdBytes) {
+        this.enabled = enabled;
+        this.thresholdBytes = thresholdBytes;
+    }
+
+    /**
+     * 본문 압축
+     *
+     * @param content 게시글 본문
+     * @return 압축된 본문, 압축하지 않는 경우 null
+     */
+    public byte[] compress(String content) {
+        if (!enabled || content == null) {
+            return null;
+        }
+        byte[] raw = content.getBytes(StandardCharsets.UTF_8);
+        if (raw.length < thresholdBytes) {
+            return null;
+        }
+        byte[] packed = CompressionUtil.deflate(raw);
+        return packed.length < raw.length * MAX_RATIO ? packed : null;
+    }
+}
@@ -0,0 +1,47 @@
+package com.sparta.springmid.product.service;
+
+import com.sparta.springmid.product.repository.BoardRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 삭제되지 않은 게시글 수의 추정치
+ * <p>
+ * total=approx 요청마다 COUNT 쿼리를 돌리지 않도록 주기적으로 한 번만 세어 메모리에 보관합니다.
+ * 갱신 주기 사이에 생기거나 삭제된 게시글만큼 실제 값과 차이가 날 수 있습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoardCountEstimator {
+
+    private final BoardRepository boardRepository;
+
+    private volatile long activeBoards = -1;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${board.count.refresh-interval-ms:60000}",
+            initialDelayString = "${board.count.refresh-interval-ms:60000}")
+    public void refresh() {
+        activeBoards = boardRepository.countByDeletedAtIsNull();
+        log.debug("active board estimate refreshed: {}", activeBoards);
+    }
+
+    /**
+     * 삭제되지 않은 게시글 수 추정치, 아직 한 번도 세지 않았다면 바로 셉니다.
+     *
+     * @return
+     */
+    public long getActiveBoards() {
+        long estimate = activeBoards;
+        if (estimate < 0) {
+            refresh();
+            estimate = activeBoards;
+        }
+        return estimate;
+    }
+}
@@ -0,0 +1,124 @@
+package com.sparta.springmid.product.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sparta.springmid.global.util.TransactionUtil;
+import com.sparta.springmid.product.repository.BoardRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 날짜별 게시글 id 묶음
+ * <p>
+ * 지나간 날짜에 작성된 게시글은 더 생기지 않고 삭제로만 바뀌므로, 날짜마다 삭제되지 않은 게시글 id 를 최신순으로 한 번 읽어 캐시합니다.
+ * 기간별 조회는 이 묶음을 최근 날짜부터 이어 붙여 만들고, 아직 끝나지 않은 오늘(과 그 이후) 날짜만 매번 DB 를 조회합니다.
+ * 게시글이 삭제되면 그 게시글이 작성된 날짜의 묶음만 무효화합니다.
+ */
+@Component
+public class BoardDayBuckets {
+
+    /**
+     * 자정 직전에 작성되어 자정 이후에 커밋된 게시글을 놓치지 않도록, 날짜가 끝나고 잠시 뒤부터 캐시합니다.
+     */
+    private static final Duration CLOSE_GRACE = Duration.ofMinutes(1);
+
+    private final BoardRepository boardRepository;
+    private final Cache<LocalDate, long[]> buckets;
+
+    /**
+     * 가장 오래된 게시글의 작성 날짜, 그 이전 날짜는 조회하지 않습니다.
+     * 새 게시글은 항상 오늘 날짜이므로 한 번 읽은 값은 더 앞당겨지지 않습니다.
+     */
+    private volatile LocalDate firstDay;
+
+    public BoardDayBuckets(BoardRepository boardRepository,
+            @Value("${board.day-buckets.max-ids:1000000}") long maxIds,
+            MeterRegistry meterRegistry) {
+        this.boardRepository = boardRepository;
+        this.buckets = Caffeine.newBuilder()
+                .maximumWeight(maxIds)
+                .weigher((LocalDate day, long[] ids) -> Math.max(1, ids.length))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, buckets, "board.day-buckets");
+    }
+
+    /**
+     * 기간 내 게시글 id 를 최신순으로 모읍니다.
+     *
+     * @param startDate 시작 날짜
+     * @param endDate   끝 날짜 (포함)
+     * @param limit     최대 개수, 기간 전체가 필요하면 Integer.MAX_VALUE
+     * @return 최신순 게시글 id
+     */
+    public List<Long> collect(LocalDate startDate, LocalDate endDate, int limit) {
+        List<Long> ids = new ArrayList<>();
+        LocalDate first = firstDay();
+        if (first == null) {
+            return ids;
+        }
+        LocalDate from = startDate.isBefore(first) ? first : startDate;
+        LocalDate today = LocalDate.now();
+        LocalDate to = endDate.isAfter(today) ? today : endDate;
+        for (LocalDate day = to; !day.isBefore(from) && ids.size() < limit;
+                day = day.minusDays(1)) {
+            for (long id : idsOf(day)) {
+                if (ids.size() == limit) {
+                    break;
+                }
+                ids.add(id);
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * 삭제된 게시글이 작성된 날짜의 묶음 무효화, 트랜잭션 안이면 커밋 후에 한 번 더 무효화합니다.
+     *
+     * @param createdAt 삭제된 게시글의 작성일자
+     */
+    public void boardDeleted(LocalDateTime createdAt) {
+        if (createdAt == null) {
+            return;
+        }
+        LocalDate day = createdAt.toLocalDate();
+        buckets.invalidate(day);
+        TransactionUtil.afterCommit(() -> buckets.invalidate(day));
+    }
+
+    private LocalDate firstDay() {
+        LocalDate first = firstDay;
+        if (first == null) {
+            LocalDateTime createdAt = boardRepository.findFirstCreatedAt();
+            if (createdAt != null) {
+                first = createdAt.toLocalDate();
+                firstDay = first;
+            }
+        }
+        return first;
+    }
+
+    private long[] idsOf(LocalDate day) {
+        if (!isClosed(day)) {
+            return load(day);
+        }
+        return buckets.get(day, this::load);
+    }
+
+    private long[] load(LocalDate day) {
+        return boardRepository.findIdsCreatedBetween(day.atStartOfDay(),
+                        day.plusDays(1).atStartOfDay())
+                .stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private static boolean isClosed(LocalDate day) {
+        return !LocalDateTime.now().isBefore(day.plusDays(1).atStartOfDay().plus(CLOSE_GRACE));
+    }
+}
@@ -0,0 +1,111 @@
+package com.sparta.springmid.product.service;
+
+import com.sparta.springmid.product.dto.BoardResponseDto;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시글 조회수 모아 쓰기
+ * <p>
+ * 조회할 때마다 게시글 행을 UPDATE 하면 인기 글에 행 잠금이 몰리므로, 조회수는 메모리의 LongAdder 에 쌓아 두고 주기적으로 게시글마다 한 번씩
+ * {@code hits = hits + ?} 로 한 번의 배치에 반영합니다. 종료 시에도 남은 조회수를 모두 반영합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoardHitCounter {
+
+    private static final String FLUSH_SQL = "UPDATE boards SET hits = hits + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BoardReadCache boardReadCache;
+
+    private final ConcurrentHashMap<Long, LongAdder> pending = new ConcurrentHashMap<>();
+
+    /**
+     * 직전 반영 때 맵에서 뺀 카운터, 빼기 직전에 카운터를 받아 간 요청의 조회수를 한 번 더 확인하고 버립니다.
+     */
+    private final List<Map.Entry<Long, LongAdder>> retired = new ArrayList<>();
+
+    /**
+     * 조회수 1 증가
+     *
+     * @param boardId 게시글 고유번호
+     */
+    public void increment(Long boardId) {
+        pending.computeIfAbsent(boardId, id -> new LongAdder()).increment();
+    }
+
+    /**
+     * 아직 DB 에 반영되지 않은 조회수
+     *
+     * @param boardId 게시글 고유번호
+     * @return
+     */
+    public long getPending(Long boardId) {
+        LongAdder adder = pending.get(boardId);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    /**
+     * 쌓인 조회수를 DB 에 반영합니다.
+     * <p>
+     * 지난 반영 이후 조회가 없었던 카운터는 맵에서 빼서 조회된 적 있는 게시글 수만큼 맵이 커지지 않도록 합니다.
+     */
+    @Scheduled(fixedDelayString = "${board.hits.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        Map<Long, Long> deltas = new HashMap<>();
+        for (Map.Entry<Long, LongAdder> entry : retired) {
+            long count = entry.getValue().sumThenReset();
+            if (count > 0) {
+                deltas.merge(entry.getKey(), count, Long::sum);
+            }
+        }
+        retired.clear();
+
+        for (Map.Entry<Long, LongAdder> entry : pending.entrySet()) {
+            long count = entry.getValue().sumThenReset();
+            if (count > 0) {
+                deltas.merge(entry.getKey(), count, Long::sum);
+            } else if (pending.remove(entry.getKey(), entry.getValue())) {
+                retired.add(Map.entry(entry.getKey(), entry.getValue()));
+            }
+        }
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> args = new ArrayList<>(deltas.size());
+        deltas.forEach((boardId, count) -> args.add(new Object[]{count, boardId}));
+        Map<Long, BoardResponseDto> cached = boardReadCache.getAllPresent(deltas.keySet());
+        try {
+            jdbcTemplate.batchUpdate(FLUSH_SQL, args);
+            // 캐시된 게시글은 지우지 않고 반영한 조회수만 더합니다.
+            boardReadCache.addFlushedHits(deltas, cached);
+            log.debug("flushed hits for {} boards", deltas.size());
+        } catch (DataAccessException e) {
+            // 반영에 실패한 조회수는 되돌려 두고 다음 주기에 다시 시도합니다.
+            log.warn("failed to flush hits for {} boards", deltas.size(), e);
+            deltas.forEach((boardId, count) ->
+                    pending.computeIfAbsent(boardId, id -> new LongAdder()).add(count));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+        // 마지막 반영에서 빠진 카운터까지 비웁니다.
+        flush();
+    }
+}
@@ -0,0 +1,185 @@
+package com.sparta.springmid.product.service;
+
+import com.sparta.springmid.product.dto.BoardImportResponseDto;
+import com.sparta.springmid.product.dto.BoardImportResponseDto.RowError;
+import com.sparta.springmid.product.dto.BoardRequestDto;
+import com.sparta.springmid.product.model.User;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 게시글 일괄 등록
+ * <p>
+ * 게시글 id 가 IDENTITY 라 Hibernate 는 INSERT 를 배치로 묶지 못하므로, 여기서는 JDBC 배치로 직접 INSERT 하고 생성된 id 를 돌려받습니다.
+ * MySQL 드라이버의 rewriteBatchedStatements 옵션을 켜 두면 한 배치가 여러 행짜리 INSERT 하나로 전송됩니다.
+ * <p>
+ * 요청은 batch-size 개씩 나누어 각각 별도 트랜잭션으로 저장하므로, 한 묶음이 실패해도 앞서 저장된 묶음은 유지되고 나머지 묶음도 계속 진행합니다.
+ */
+@Slf4j
+@Service
+public class BoardImportService {
+
+    private static final String INSERT_SQL = "INSERT INTO boards"
+            + " (title, content, content_compressed, hits, like_count, created_at, modified_at,"
+            + " user_id) VALUES (?, ?, ?, 0, 0, ?, ?, ?)";
+    private static final int MAX_TITLE_LENGTH = 255;
+    // boards.content (MEDIUMTEXT) 의 최대 바이트 수
+    private static final int MAX_CONTENT_BYTES = 16_777_215;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final LikesLeaderboard likesLeaderboard;
+    private final BoardSearchIndex boardSearchIndex;
+    private final BoardContentCompressor boardContentCompressor;
+    private final int batchSize;
+    private final int maxRows;
+
+    public BoardImportService(JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            LikesLeaderboard likesLeaderboard, BoardSearchIndex boardSearchIndex,
+            BoardContentCompressor boardContentCompressor,
+            @Value("${board.import.batch-size:500}") int batchSize,
+            @Value("${board.import.max-rows:10000}") int maxRows) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.likesLeaderboard = likesLeaderboard;
+        this.boardSearchIndex = boardSearchIndex;
+        this.boardContentCompressor = boardContentCompressor;
+        this.batchSize = batchSize;
+        this.maxRows = maxRows;
+    }
+
+    /**
+     * 게시글 일괄 등록
+     *
+     * @param user     작성자
+     * @param requests 등록할 게시글 목록
+     * @return 저장 결과와 실패한 게시글의 사유
+     */
+    public BoardImportResponseDto importBoards(User user, List<BoardRequestDto> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new IllegalArgumentException("등록할 게시글이 없습니다.");
+        }
+        if (requests.size() > maxRows) {
+            throw new IllegalArgumentException(
+                    "한 번에 " + maxRows + "개까지 등록할 수 있습니다.");
+        }
+
+        long started = System.currentTimeMillis();
+        List<RowError> errors = new ArrayList<>();
+        List<Integer> valid = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            String message = validate(requests.get(i));
+            if (message == null) {
+                valid.add(i);
+            } else {
+                errors.add(new RowError(i, message));
+            }
+        }
+
+        int imported = 0;
+        for (int from = 0; from < valid.size(); from += batchSize) {
+            List<Integer> chunk = valid.subList(from, Math.min(from + batchSize, valid.size()));
+            try {
+                imported += insertChunk(user, requests, chunk);
+            } catch (DataAccessException e) {
+                log.warn("board import chunk failed: rows {}..{}", chunk.get(0),
+                        chunk.get(chunk.size() - 1), e);
+                chunk.forEach(index -> errors.add(new RowError(index, "저장에 실패했습니다.")));
+            }
+            log.info("board import progress: {}/{} rows processed, {} imported",
+                    from + chunk.size(), valid.size(), imported);
+        }
+
+        errors.sort(Comparator.comparingInt(RowError::index));
+        return new BoardImportResponseDto(requests.size(), imported, errors.size(),
+                System.currentTimeMillis() - started, errors);
+    }
+
+    /**
+     * 한 묶음을 한 트랜잭션에서 JDBC 배치로 저장합니다.
+     *
+     * @return 저장된 게시글 수
+     */
+    private int insertChunk(User user, List<BoardRequestDto> requests, List<Integer> chunk) {
+        Integer inserted = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            Timestamp timestamp = Timestamp.valueOf(now);
+
+            List<Long> ids = jdbcTemplate.execute((ConnectionCallback<List<Long>>) connection -> {
+                try (PreparedStatement ps = connection.prepareStatement(INSERT_SQL,
+                        Statement.RETURN_GENERATED_KEYS)) {
+                    for (int index : chunk) {
+                        BoardRequestDto request = requests.get(index);
+                        byte[] compressed = boardContentCompressor.compress(request.getContent());
+                        ps.setString(1, request.getTitle());
+                        ps.setString(2, compressed == null ? request.getContent() : "");
+                        ps.setBytes(3, compressed);
+                        ps.setTimestamp(4, timestamp);
+                        ps.setTimestamp(5, timestamp);
+                        ps.setLong(6, user.getId());
+                        ps.addBatch();
+                    }
+                    ps.executeBatch();
+
+                    List<Long> generated = new ArrayList<>(chunk.size());
+                    try (ResultSet keys = ps.getGeneratedKeys()) {
+                        while (keys.next()) {
+                            generated.add(keys.getLong(1));
+                        }
+                    }
+                    return generated;
+                }
+            });
+
+            likesLeaderboard.boardsImported(ids);
+            for (int i = 0; i < ids.size(); i++) {
+                BoardRequestDto request = requests.get(chunk.get(i));
+                boardSearchIndex.indexAfterCommit(ids.get(i), request.getTitle(),
+                        request.getContent(), now);
+            }
+            return ids.size();
+        });
+        return inserted == null ? 0 : inserted;
+    }
+
+    /**
+     * 게시글 하나 검증, 문제가 없으면 null
+     */
+    private static String validate(BoardRequestDto request) {
+        if (request == null) {
+            return "게시글 정보가 없습니다.";
+        }
+        if (request.getTitle() == null || request.getTitle().isBlank()) {
+            return "제목을 입력해주세요.";
+        }
+        if (request.getContent() == null || request.getContent().isBlank()) {
+            return "내용을 입력해주세요.";
+        }
+        if (request.getTitle().length() > MAX_TITLE_LENGTH) {
+            return "제목은 " + MAX_TITLE_LENGTH + "자 이하로 입력해주세요.";
+        }
+        // 글자당 최대 4바이트이므로 그보다 짧은 본문은 바이트 수를 세지 않습니다.
+        if (request.getContent().length() > MAX_CONTENT_BYTES / 4
+                && request.getContent().getBytes(StandardCharsets.UTF_8).length
+                > MAX_CONTENT_BYTES) {
+            return "내용이 너무 깁니다.";
+        }
+        return null;
+    }
+}
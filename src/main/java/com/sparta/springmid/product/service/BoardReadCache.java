@@ -0,0 +1,95 @@
+package com.sparta.springmid.product.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sparta.springmid.global.util.TransactionUtil;
+import com.sparta.springmid.product.dto.BoardResponseDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시글 단건 조회 캐시
+ * <p>
+ * Caffeine 의 W-TinyLFU 정책으로 자주 읽히는 게시글만 남기고, 같은 게시글에 대한 동시 캐시 미스는 한 번의 조회로 합칩니다.
+ * 게시글이 바뀌면 무효화하며, 놓친 변경이 있더라도 짧은 만료 시간이 지나면 다시 읽어옵니다.
+ * 캐시 적중률은 board.read 이름의 cache.* 메트릭으로 확인합니다.
+ */
+@Component
+public class BoardReadCache {
+
+    private final Cache<Long, BoardResponseDto> cache;
+
+    public BoardReadCache(@Value("${board.cache.max-size:10000}") long maxSize,
+            @Value("${board.cache.expire-after-write-seconds:60}") long expireAfterWriteSeconds,
+            MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(expireAfterWriteSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "board.read");
+    }
+
+    /**
+     * 캐시에서 게시글을 꺼내고 없으면 loader 로 한 번만 읽어 저장합니다.
+     *
+     * @param boardId 게시글 고유번호
+     * @param loader  캐시 미스일 때 게시글을 읽어오는 함수, 없으면 null 을 반환하고 이 경우 캐시하지 않습니다.
+     * @return 게시글, 없으면 null
+     */
+    public BoardResponseDto get(Long boardId, Function<Long, BoardResponseDto> loader) {
+        return cache.get(boardId, loader);
+    }
+
+    /**
+     * 캐시에 있는 게시글만 꺼냅니다.
+     *
+     * @param boardId 게시글 고유번호
+     * @return 게시글, 캐시에 없으면 null
+     */
+    public BoardResponseDto getIfPresent(Long boardId) {
+        return cache.getIfPresent(boardId);
+    }
+
+    /**
+     * 게시글 캐시 무효화
+     * <p>
+     * 트랜잭션 안이면 커밋 직후에 한 번 더 무효화해서, 커밋 전에 다른 요청이 옛 값을 다시 캐시한 경우도 지웁니다.
+     *
+     * @param boardId 게시글 고유번호
+     */
+    public void invalidate(Long boardId) {
+        cache.invalidate(boardId);
+        TransactionUtil.afterCommit(() -> cache.invalidate(boardId));
+    }
+
+    /**
+     * 캐시에 있는 게시글들을 꺼냅니다.
+     *
+     * @param boardIds 게시글 고유번호 목록
+     * @return 캐시에 있던 게시글만 담은 맵
+     */
+    public Map<Long, BoardResponseDto> getAllPresent(Collection<Long> boardIds) {
+        return cache.getAllPresent(boardIds);
+    }
+
+    /**
+     * DB 에 반영한 조회수를 캐시된 게시글에 더합니다. 자주 조회되는 게시글이 조회수 반영 때마다 캐시에서 빠지지 않도록 합니다.
+     * <p>
+     * 반영 직전에 꺼내 둔 것과 같은 객체만 조회수를 더하고, 그사이 DB 에서 다시 읽혀 교체된 게시글은 이미 반영된 값인지 알 수 없으므로 무효화합니다.
+     *
+     * @param hits   게시글별 반영한 조회수
+     * @param before 반영 직전에 캐시에 있던 게시글, {@link #getAllPresent(Collection)} 의 결과
+     */
+    public void addFlushedHits(Map<Long, Long> hits, Map<Long, BoardResponseDto> before) {
+        hits.forEach((boardId, count) -> cache.asMap().computeIfPresent(boardId,
+                (id, current) -> current == before.get(id)
+                        ? new BoardResponseDto(current, count) : null));
+    }
+}
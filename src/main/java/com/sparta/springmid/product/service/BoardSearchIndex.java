@@ -0,0 +1,552 @@
+package com.sparta.springmid.product.service;
+
+import com.sparta.springmid.global.util.TransactionUtil;
+import com.sparta.springmid.product.dto.BoardResponseDto;
+import com.sparta.springmid.product.model.Board;
+import com.sparta.springmid.product.repository.BoardRepository;
+import jakarta.annotation.PreDestroy;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 게시글 제목/내용 검색용 역색인
+ * <p>
+ * 단어별로 (게시글 id → 출현 횟수) 목록을 메모리에 두고 BM25 로 점수를 매깁니다.
+ * <ul>
+ *     <li>영문과 숫자는 단어 단위, 한글과 한자는 띄어쓰기가 일정하지 않으므로 두 글자씩(bigram) 잘라 색인합니다. 제목은 두 번 셉니다.</li>
+ *     <li>기동 시 세그먼트 파일이 있으면 읽어 들인 뒤 DB 의 (id, modifiedAt) 만 훑어 바뀐 게시글만 다시 색인하고, 없으면 게시글 테이블을
+ *     스트리밍으로 읽어 새로 만듭니다. 초기화는 별도 스레드에서 진행되며 그동안에도 검색과 갱신은 가능합니다.</li>
+ *     <li>이후에는 게시글 작성/수정/삭제가 커밋될 때마다 갱신하고, 바뀐 내용이 있으면 주기적으로와 종료 시에 세그먼트 파일로 저장합니다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class BoardSearchIndex {
+
+    private static final int SEGMENT_MAGIC = 0x42534958; // "BSIX"
+    private static final int SEGMENT_VERSION = 2;
+    /**
+     * 단어 하나의 최대 길이(글자 수), 이보다 긴 단어는 앞부분만 색인합니다.
+     */
+    static final int MAX_TERM_LENGTH = 64;
+    private static final int TITLE_WEIGHT = 2;
+    private static final int MAX_QUERY_TERMS = 32;
+    private static final int RECONCILE_BATCH_SIZE = 500;
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final BoardRepository boardRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Path segmentPath;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Document> documents = new HashMap<>();
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    private long totalLength;
+
+    private final AtomicBoolean dirty = new AtomicBoolean();
+
+    /**
+     * 초기화 중에 삭제된 게시글, 초기화가 읽어 둔 옛 데이터로 다시 색인하지 않도록 합니다.
+     */
+    private final Set<Long> deletedWhileLoading = ConcurrentHashMap.newKeySet();
+    private volatile boolean loading;
+
+    public BoardSearchIndex(BoardRepository boardRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${board.search.segment-path:./data/board-search.seg}") String segmentPath) {
+        this.boardRepository = boardRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.segmentPath = Path.of(segmentPath);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        loading = true;
+        Thread thread = new Thread(this::load, "board-search-init");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private void load() {
+        long started = System.currentTimeMillis();
+        try {
+            if (readSegment()) {
+                reconcile();
+            } else {
+                buildFromTable();
+            }
+            log.info("board search index ready: {} boards in {} ms", size(),
+                    System.currentTimeMillis() - started);
+        } catch (RuntimeException e) {
+            log.error("failed to initialize board search index", e);
+        } finally {
+            loading = false;
+            deletedWhileLoading.clear();
+        }
+    }
+
+    /**
+     * 검색
+     *
+     * @param query 검색어
+     * @param limit 최대 결과 수
+     * @return 점수가 높은 순서의 게시글 id
+     */
+    public List<Long> search(String query, int limit) {
+        Map<String, Integer> terms = termFrequencies(query, null);
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Double> scores = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            int documentCount = documents.size();
+            if (documentCount == 0) {
+                return List.of();
+            }
+            double averageLength = (double) totalLength / documentCount;
+            int used = 0;
+            for (String term : terms.keySet()) {
+                if (used++ == MAX_QUERY_TERMS) {
+                    break;
+                }
+                Map<Long, Integer> posting = postings.get(term);
+                if (posting == null) {
+                    continue;
+                }
+                double idf = Math.log(1 + (documentCount - posting.size() + 0.5)
+                        / (posting.size() + 0.5));
+                for (Map.Entry<Long, Integer> entry : posting.entrySet()) {
+                    int length = documents.get(entry.getKey()).length();
+                    double tf = entry.getValue();
+                    double score = idf * tf * (K1 + 1)
+                            / (tf + K1 * (1 - B + B * length / averageLength));
+                    scores.merge(entry.getKey(), score, Double::sum);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        PriorityQueue<Map.Entry<Long, Double>> top = new PriorityQueue<>(
+                Map.Entry.comparingByValue());
+        for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+            top.offer(entry);
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+        List<Long> ids = new ArrayList<>(top.size());
+        while (!top.isEmpty()) {
+            ids.add(0, top.poll().getKey());
+        }
+        return ids;
+    }
+
+    /**
+     * 작성되거나 수정된 게시글 색인, 트랜잭션 안이면 커밋 후에 반영합니다.
+     * <p>
+     * modifiedAt 은 flush 시점에 갱신되므로 필드는 커밋 후에 읽습니다.
+     *
+     * @param board 게시글
+     */
+    public void indexAfterCommit(Board board) {
+        TransactionUtil.afterCommit(() -> put(board.getId(), board.getTitle(),
+                board.getPlainContent(), versionOf(board.getModifiedAt())));
+    }
+
+    /**
+     * 필드 값을 이미 알고 있는 게시글 색인, 트랜잭션 안이면 커밋 후에 반영합니다.
+     *
+     * @param boardId    게시글 고유번호
+     * @param title      제목
+     * @param content    내용
+     * @param modifiedAt 수정일자
+     */
+    public void indexAfterCommit(Long boardId, String title, String content,
+            LocalDateTime modifiedAt) {
+        TransactionUtil.afterCommit(() -> put(boardId, title, content, versionOf(modifiedAt)));
+    }
+
+    /**
+     * 삭제된 게시글 제거, 트랜잭션 안이면 커밋 후에 반영합니다.
+     *
+     * @param boardId 게시글 고유번호
+     */
+    public void removeAfterCommit(Long boardId) {
+        TransactionUtil.afterCommit(() -> {
+            if (loading) {
+                deletedWhileLoading.add(boardId);
+            }
+            remove(boardId);
+        });
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 게시글 색인, 이미 더 최신 버전이 색인되어 있으면 무시합니다.
+     */
+    private void put(Long boardId, String title, String content, long version) {
+        Map<String, Integer> frequencies = termFrequencies(title, null);
+        frequencies.replaceAll((term, count) -> count * TITLE_WEIGHT);
+        termFrequencies(content, frequencies);
+
+        lock.writeLock().lock();
+        try {
+            Document current = documents.get(boardId);
+            if (current != null && current.version() > version) {
+                return;
+            }
+            removeLocked(boardId);
+            addLocked(boardId, Document.of(version, frequencies));
+        } finally {
+            lock.writeLock().unlock();
+        }
+        dirty.set(true);
+    }
+
+    private void remove(Long boardId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(boardId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        dirty.set(true);
+    }
+
+    private void addLocked(Long boardId, Document document) {
+        documents.put(boardId, document);
+        totalLength += document.length();
+        for (int i = 0; i < document.terms().length; i++) {
+            postings.computeIfAbsent(document.terms()[i], term -> new HashMap<>())
+                    .put(boardId, document.frequencies()[i]);
+        }
+    }
+
+    private void removeLocked(Long boardId) {
+        Document document = documents.remove(boardId);
+        if (document == null) {
+            return;
+        }
+        totalLength -= document.length();
+        for (String term : document.terms()) {
+            Map<Long, Integer> posting = postings.get(term);
+            if (posting != null) {
+                posting.remove(boardId);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    /**
+     * 세그먼트 파일이 없을 때 게시글 테이블 전체를 한 행씩 읽어 색인합니다.
+     */
+    private void buildFromTable() {
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<BoardResponseDto> boards = boardRepository.streamAllResponses()) {
+                Iterator<BoardResponseDto> iterator = boards.iterator();
+                while (iterator.hasNext()) {
+                    putLoaded(iterator.next());
+                }
+            }
+        });
+    }
+
+    /**
+     * 세그먼트 파일을 읽은 뒤 DB 와 맞춥니다.
+     * <p>
+     * 삭제된 게시글은 제거하고, 색인에 없거나 modifiedAt 이 다른 게시글만 골라 다시 읽어 색인합니다.
+     */
+    private void reconcile() {
+        Set<Long> unseen;
+        lock.readLock().lock();
+        try {
+            unseen = new HashSet<>(documents.keySet());
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<Long> stale = new ArrayList<>();
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<Object[]> rows = boardRepository.streamLiveVersions()) {
+                rows.forEach(row -> {
+                    Long boardId = (Long) row[0];
+                    unseen.remove(boardId);
+                    Document document = currentDocument(boardId);
+                    if (document == null
+                            || document.version() != versionOf((LocalDateTime) row[1])) {
+                        stale.add(boardId);
+                    }
+                });
+            }
+        });
+
+        unseen.forEach(this::remove);
+        for (int from = 0; from < stale.size(); from += RECONCILE_BATCH_SIZE) {
+            List<Long> batch = stale.subList(from, Math.min(from + RECONCILE_BATCH_SIZE,
+                    stale.size()));
+            readOnlyTransaction.executeWithoutResult(status ->
+                    boardRepository.findResponsesByIdIn(batch).forEach(this::putLoaded));
+        }
+        log.info("board search index reconciled: {} removed, {} re-indexed", unseen.size(),
+                stale.size());
+    }
+
+    private void putLoaded(BoardResponseDto board) {
+        if (!deletedWhileLoading.contains(board.getId())) {
+            put(board.getId(), board.getTitle(), board.getContent(),
+                    versionOf(board.getModifiedAt()));
+        }
+    }
+
+    private Document currentDocument(Long boardId) {
+        lock.readLock().lock();
+        try {
+            return documents.get(boardId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 바뀐 내용이 있으면 세그먼트 파일로 저장합니다.
+     */
+    @Scheduled(fixedDelayString = "${board.search.persist-interval-ms:300000}",
+            initialDelayString = "${board.search.persist-interval-ms:300000}")
+    public void persist() {
+        if (loading || !dirty.getAndSet(false)) {
+            return;
+        }
+        Map<Long, Document> snapshot;
+        lock.readLock().lock();
+        try {
+            snapshot = new LinkedHashMap<>(documents);
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        try {
+            Files.createDirectories(segmentPath.toAbsolutePath().getParent());
+            Path temp = segmentPath.resolveSibling(segmentPath.getFileName() + ".tmp");
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(SEGMENT_MAGIC);
+                out.writeInt(SEGMENT_VERSION);
+                out.writeInt(snapshot.size());
+                for (Map.Entry<Long, Document> entry : snapshot.entrySet()) {
+                    Document document = entry.getValue();
+                    out.writeLong(entry.getKey());
+                    out.writeLong(document.version());
+                    out.writeInt(document.terms().length);
+                    for (int i = 0; i < document.terms().length; i++) {
+                        byte[] term = document.terms()[i].getBytes(StandardCharsets.UTF_8);
+                        out.writeInt(term.length);
+                        out.write(term);
+                        out.writeInt(document.frequencies()[i]);
+                    }
+                }
+            }
+            Files.move(temp, segmentPath, StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+            log.debug("board search segment written: {} boards", snapshot.size());
+        } catch (IOException e) {
+            dirty.set(true);
+            log.warn("failed to write board search segment {}", segmentPath, e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        persist();
+    }
+
+    /**
+     * 세그먼트 파일 읽기, 파일이 없거나 읽을 수 없으면 false
+     */
+    private boolean readSegment() {
+        if (!Files.isRegularFile(segmentPath)) {
+            return false;
+        }
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(segmentPath)))) {
+            if (in.readInt() != SEGMENT_MAGIC || in.readInt() != SEGMENT_VERSION) {
+                log.warn("ignoring board search segment with unknown format: {}", segmentPath);
+                return false;
+            }
+            int count = in.readInt();
+            lock.writeLock().lock();
+            try {
+                for (int i = 0; i < count; i++) {
+                    long boardId = in.readLong();
+                    long version = in.readLong();
+                    int termCount = in.readInt();
+                    String[] terms = new String[termCount];
+                    int[] frequencies = new int[termCount];
+                    for (int j = 0; j < termCount; j++) {
+                        byte[] term = new byte[in.readInt()];
+                        in.readFully(term);
+                        terms[j] = new String(term, StandardCharsets.UTF_8);
+                        frequencies[j] = in.readInt();
+                    }
+                    addLocked(boardId, Document.of(version, terms, frequencies));
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+            return true;
+        } catch (IOException e) {
+            log.warn("failed to read board search segment {}, rebuilding", segmentPath, e);
+            lock.writeLock().lock();
+            try {
+                documents.clear();
+                postings.clear();
+                totalLength = 0;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            return false;
+        }
+    }
+
+    private static long versionOf(LocalDateTime modifiedAt) {
+        return modifiedAt == null ? 0
+                : modifiedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    /**
+     * 문자열을 단어로 잘라 출현 횟수를 셉니다.
+     * <p>
+     * 영문과 숫자는 연속된 글자를 한 단어로, 한글과 한자는 연속된 구간을 두 글자씩 겹쳐 자릅니다. 한 글자뿐인 구간은 그대로 씁니다.
+     * 영문/숫자 단어가 {@link #MAX_TERM_LENGTH} 글자를 넘으면 앞부분만 씁니다.
+     *
+     * @param text        자를 문자열
+     * @param frequencies 결과를 더할 맵, null 이면 새로 만듭니다.
+     * @return 단어별 출현 횟수
+     */
+    static Map<String, Integer> termFrequencies(String text, Map<String, Integer> frequencies) {
+        Map<String, Integer> result = frequencies == null ? new LinkedHashMap<>() : frequencies;
+        if (text == null) {
+            return result;
+        }
+        String lower = text.toLowerCase(Locale.ROOT);
+        int i = 0;
+        while (i < lower.length()) {
+            int codePoint = lower.codePointAt(i);
+            if (isBigramScript(codePoint)) {
+                int start = i;
+                while (i < lower.length() && isBigramScript(lower.codePointAt(i))) {
+                    i += Character.charCount(lower.codePointAt(i));
+                }
+                addBigrams(lower.substring(start, i), result);
+            } else if (Character.isLetterOrDigit(codePoint)) {
+                int start = i;
+                while (i < lower.length() && Character.isLetterOrDigit(lower.codePointAt(i))
+                        && !isBigramScript(lower.codePointAt(i))) {
+                    i += Character.charCount(lower.codePointAt(i));
+                }
+                result.merge(truncate(lower.substring(start, i)), 1, Integer::sum);
+            } else {
+                i += Character.charCount(codePoint);
+            }
+        }
+        return result;
+    }
+
+    private static String truncate(String term) {
+        if (term.codePointCount(0, term.length()) <= MAX_TERM_LENGTH) {
+            return term;
+        }
+        return term.substring(0, term.offsetByCodePoints(0, MAX_TERM_LENGTH));
+    }
+
+    private static void addBigrams(String run, Map<String, Integer> frequencies) {
+        int[] codePoints = run.codePoints().toArray();
+        if (codePoints.length == 1) {
+            frequencies.merge(run, 1, Integer::sum);
+            return;
+        }
+        for (int i = 0; i + 1 < codePoints.length; i++) {
+            frequencies.merge(new String(codePoints, i, 2), 1, Integer::sum);
+        }
+    }
+
+    private static boolean isBigramScript(int codePoint) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(codePoint);
+        return script == Character.UnicodeScript.HANGUL || script == Character.UnicodeScript.HAN;
+    }
+
+    /**
+     * 색인된 게시글 하나
+     *
+     * @param version     색인 당시 modifiedAt (epoch ms)
+     * @param terms       단어 목록
+     * @param frequencies 단어별 출현 횟수
+     * @param length      출현 횟수의 합 (BM25 문서 길이)
+     */
+    private record Document(long version, String[] terms, int[] frequencies, int length) {
+
+        static Document of(long version, Map<String, Integer> termFrequencies) {
+            String[] terms = new String[termFrequencies.size()];
+            int[] frequencies = new int[terms.length];
+            int i = 0;
+            for (Map.Entry<String, Integer> entry : termFrequencies.entrySet()) {
+                terms[i] = entry.getKey();
+                frequencies[i++] = entry.getValue();
+            }
+            return of(version, terms, frequencies);
+        }
+
+        static Document of(long version, String[] terms, int[] frequencies) {
+            int length = 0;
+            for (int frequency : frequencies) {
+                length += frequency;
+            }
+            return new Document(version, terms, frequencies, length);
+        }
+    }
+}
@@ -1,19 +1,38 @@
 package com.sparta.springmid.product.service;
 
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.sparta.springmid.global.enums.TotalCountEnum;
+import com.sparta.springmid.global.util.CursorUtil;
 import com.sparta.springmid.product.dto.BoardRequestDto;
 import com.sparta.springmid.product.dto.BoardResponseDto;
+import com.sparta.springmid.product.dto.ContentVersionDto;
+import com.sparta.springmid.product.dto.CursorPageResponseDto;
+import com.sparta.springmid.product.dto.SliceResponseDto;
 import com.sparta.springmid.product.model.Board;
 import com.sparta.springmid.product.model.User;
 import com.sparta.springmid.product.repository.BoardRepository;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -28,18 +47,35 @@ public class BoardService {
      * @AuthenticationPrincipal을 통해 User 정보를 받아 온 후 검증합니다. 3. board와 User은 다:1 , board와 comment는 1:다
      * 관계로 맺어줬습니다.
      */
+    private static final int PAGE_SIZE = 10;
+    private static final int CURSOR_PAGE_SIZE = 10;
+    private static final int MAX_SEARCH_SIZE = 50;
+    private static final String RECENT_CURSOR = "recent";
+    private static final String LIKE_CURSOR = "like";
+    private static final String DATE_CURSOR = "date";
+
     private final BoardRepository boardRepository;
+    private final BoardCountEstimator boardCountEstimator;
+    private final BoardHitCounter boardHitCounter;
+    private final BoardReadCache boardReadCache;
+    private final LikesLeaderboard likesLeaderboard;
+    private final BoardSearchIndex boardSearchIndex;
+    private final BoardContentCompressor boardContentCompressor;
+    private final BoardDayBuckets boardDayBuckets;
+    private final ObjectMapper objectMapper;
 
     public BoardResponseDto createBoard(User user, BoardRequestDto requestDto) {
-        Board board = boardRepository.save(new Board(user, requestDto));
+        Board board = boardRepository.save(new Board(user, requestDto,
+                boardContentCompressor.compress(requestDto.getContent())));
+        likesLeaderboard.boardCreated(board.getId());
+        boardSearchIndex.indexAfterCommit(board);
         return new BoardResponseDto(board);
     }
 
     // 모든 페이지 조회, 글이 있을 경우 ApiResponseDto의 data 조회
+    @Transactional(readOnly = true)
     public Optional<Object> findAll() {
-        List<BoardResponseDto> list = boardRepository.findAllByDeletedAtIsNullOrderByCreatedAtDesc()
-                .stream()
-                .map(BoardResponseDto::new).toList();
+        List<BoardResponseDto> list = boardRepository.findAllResponses();
 
         // 글이 없을 경우 메시지와 200 Status code 던져줌
         if (list.isEmpty()) {
@@ -49,72 +85,283 @@ public class BoardService {
         return Optional.of(list);
     }
 
+    /**
+     * 모든 게시글을 NDJSON(한 줄에 게시글 하나)으로 내려줍니다.
+     * <p>
+     * DB 에서 한 행씩 DTO 로 읽어 바로 응답에 쓰고, 엔티티를 영속성 컨텍스트에 올리지 않으므로 게시글 수와 관계없이 메모리 사용량이 일정합니다.
+     *
+     * @param out 응답 스트림
+     */
     @Transactional(readOnly = true)
-    // 최신순으로 10개씩 페이지네이션하는 Service 로직 추가.
-    public Optional<Object> findAllRecentlyPagination(int page) {
-        int pageSize = 10;
-        Pageable pageable = PageRequest.of(page, pageSize);
-        List<BoardResponseDto> list = boardRepository.findAllByDeletedAtIsNullOrderByCreatedAtDesc(
-                        pageable)
-                .stream()
-                .map(BoardResponseDto::new).toList();
+    public void streamAll(OutputStream out) throws IOException {
+        ObjectWriter writer = objectMapper.writerFor(BoardResponseDto.class);
 
-        if (list.isEmpty()) {
-            return Optional.of("먼저 작성하여 소식을 알려보세요!");
+        try (Stream<BoardResponseDto> boards = boardRepository.streamAllResponses()) {
+            Iterator<BoardResponseDto> iterator = boards.iterator();
+            while (iterator.hasNext()) {
+                out.write(writer.writeValueAsBytes(iterator.next()));
+                out.write('\n');
+            }
         }
+        out.flush();
+    }
 
-        return Optional.of(list);
+    @Transactional(readOnly = true)
+    // 최신순으로 10개씩 페이지네이션하는 Service 로직 추가.
+    public Optional<Object> findAllRecentlyPagination(int page, TotalCountEnum totalCount) {
+        Pageable pageable = PageRequest.of(page, PAGE_SIZE);
+        Slice<BoardResponseDto> boards = boardRepository.findRecentResponses(pageable);
+
+        return toSliceResponse(boards, () -> countActiveBoards(totalCount));
     }
 
     // 좋아요 많은 순으로 조회
     @Transactional(readOnly = true)
-    public Optional<Object> findAllLikesPagination(int page) {
-        int pageSize = 10;
-        Pageable pageable = PageRequest.of(page, pageSize);
-        List<BoardResponseDto> list = boardRepository.findAllByDeletedAtIsNullOrderByLikeCountDesc(
-                        pageable)
-                .stream()
-                .map(BoardResponseDto::new).toList();
+    // 상위 게시글은 좋아요 인덱스에서 순서를 가져오고, 인덱스 범위를 벗어난 페이지만 DB 에서 정렬합니다.
+    public Optional<Object> findAllLikesPagination(int page, TotalCountEnum totalCount) {
+        Pageable pageable = PageRequest.of(page, PAGE_SIZE);
+        Slice<BoardResponseDto> boards = likesLeaderboard.page(pageable.getOffset(), PAGE_SIZE)
+                .map(ranked -> (Slice<BoardResponseDto>) new SliceImpl<>(
+                        findAllInOrder(ranked.boardIds()), pageable, ranked.hasNext()))
+                .orElseGet(() -> boardRepository.findMostLikedResponses(pageable));
 
-        if (list.isEmpty()) {
-            return Optional.of("먼저 작성하여 소식을 알려보세요!");
+        return toSliceResponse(boards, () -> countActiveBoards(totalCount));
+    }
+
+    /**
+     * id 목록 순서대로 삭제되지 않은 게시글 조회
+     */
+    private List<BoardResponseDto> findAllInOrder(List<Long> boardIds) {
+        if (boardIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, BoardResponseDto> boards = new HashMap<>();
+        boardRepository.findResponsesByIdIn(boardIds)
+                .forEach(board -> boards.put(board.getId(), board));
+        return boardIds.stream()
+                .map(boards::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * 제목/내용 검색
+     * <p>
+     * {@link BoardSearchIndex} 에서 점수순 id 를 받아 해당 게시글만 조회합니다.
+     *
+     * @param query 검색어
+     * @param size  최대 결과 수
+     */
+    @Transactional(readOnly = true)
+    public Optional<Object> search(String query, int size) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("검색어를 입력해주세요.");
+        }
+        if (size < 1 || size > MAX_SEARCH_SIZE) {
+            throw new IllegalArgumentException(
+                    "검색 결과 수는 1 이상 " + MAX_SEARCH_SIZE + " 이하로 입력해주세요.");
         }
 
+        List<BoardResponseDto> list = findAllInOrder(boardSearchIndex.search(query, size));
+        if (list.isEmpty()) {
+            return Optional.of("검색 결과가 없습니다.");
+        }
         return Optional.of(list);
     }
 
-    // 입력받은 기간 사이에 생성된 게시글들만 조회
+    /**
+     * 입력받은 기간 사이에 생성된 게시글들만 조회
+     * <p>
+     * 게시글 순서는 {@link BoardDayBuckets} 의 날짜별 id 묶음을 이어 붙여 정하고, 이번 페이지의 게시글만 DB 에서 읽습니다.
+     * 개수도 묶음 크기의 합이므로 exact 와 approx 모두 COUNT 쿼리 없이 구합니다.
+     */
     @Transactional(readOnly = true)
     public Optional<Object> findAllDatePagination(
             int page,
-            LocalDateTime startDateTime,
-            LocalDateTime endDateTime) {
+            LocalDate startDate,
+            LocalDate endDate,
+            TotalCountEnum totalCount) {
+
+        Pageable pageable = PageRequest.of(page, PAGE_SIZE);
+        boolean needsTotal = totalCount != TotalCountEnum.NONE;
+        int limit = needsTotal ? Integer.MAX_VALUE
+                : (int) Math.min(Integer.MAX_VALUE, pageable.getOffset() + PAGE_SIZE + 1);
+        List<Long> ids = boardDayBuckets.collect(startDate, endDate, limit);
 
-        int pageSize = 10;
-        Pageable pageable = PageRequest.of(page, pageSize);
-        List<BoardResponseDto> list =
-                boardRepository.findAllByDeletedAtIsNullAndCreatedAtBetweenOrderByCreatedAtDesc
-                                (startDateTime, endDateTime, pageable)
-                        .stream()
-                        .map(BoardResponseDto::new).toList();
+        int from = (int) Math.min(ids.size(), pageable.getOffset());
+        int to = Math.min(ids.size(), from + PAGE_SIZE);
+        Slice<BoardResponseDto> boards = new SliceImpl<>(findAllInOrder(ids.subList(from, to)),
+                pageable, ids.size() > to);
+
+        return toSliceResponse(boards, () -> needsTotal ? (long) ids.size() : null);
+    }
+
+    private Long countActiveBoards(TotalCountEnum totalCount) {
+        return switch (totalCount) {
+            case NONE -> null;
+            case EXACT -> boardRepository.countByDeletedAtIsNull();
+            case APPROX -> boardCountEstimator.getActiveBoards();
+        };
+    }
+
+    /**
+     * 조회 결과를 Slice 응답으로 변환, 글이 없을 경우 메시지를 반환합니다.
+     */
+    private static Optional<Object> toSliceResponse(Slice<BoardResponseDto> boards,
+            Supplier<Long> total) {
+        List<BoardResponseDto> list = boards.getContent();
 
         if (list.isEmpty()) {
             return Optional.of("먼저 작성하여 소식을 알려보세요!");
         }
-        return Optional.of(list);
+
+        return Optional.of(new SliceResponseDto<>(list, boards.getNumber() + 1, boards.getSize(),
+                boards.hasNext(), total.get()));
     }
 
-    @Transactional
+    /**
+     * 최신순 커서 페이지네이션
+     *
+     * @param cursor 이전 응답의 nextCursor, 첫 페이지는 null
+     * @return
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponseDto<BoardResponseDto> findRecentlyByCursor(String cursor) {
+        Pageable limit = PageRequest.of(0, CURSOR_PAGE_SIZE + 1);
+        List<BoardResponseDto> boards;
+        if (cursor == null) {
+            boards = boardRepository.findRecentFirst(limit);
+        } else {
+            String[] values = CursorUtil.decode(cursor, RECENT_CURSOR, 2);
+            boards = boardRepository.findRecentAfter(parseDateTime(values[0]),
+                    Long.valueOf(values[1]), limit);
+        }
+        return toCursorPage(boards, board -> CursorUtil.encode(RECENT_CURSOR,
+                board.getCreateAt().toString(), board.getId().toString()));
+    }
+
+    /**
+     * 좋아요순 커서 페이지네이션
+     *
+     * @param cursor 이전 응답의 nextCursor, 첫 페이지는 null
+     * @return
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponseDto<BoardResponseDto> findLikesByCursor(String cursor) {
+        Pageable limit = PageRequest.of(0, CURSOR_PAGE_SIZE + 1);
+        List<BoardResponseDto> boards;
+        if (cursor == null) {
+            boards = boardRepository.findMostLikedFirst(limit);
+        } else {
+            String[] values = CursorUtil.decode(cursor, LIKE_CURSOR, 2);
+            boards = boardRepository.findMostLikedAfter(Long.valueOf(values[0]),
+                    Long.valueOf(values[1]), limit);
+        }
+        return toCursorPage(boards, board -> CursorUtil.encode(LIKE_CURSOR,
+                board.getCount().toString(), board.getId().toString()));
+    }
+
+    /**
+     * 기간별 커서 페이지네이션
+     *
+     * @param cursor        이전 응답의 nextCursor, 첫 페이지는 null
+     * @param startDateTime
+     * @param endDateTime
+     * @return
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponseDto<BoardResponseDto> findDateByCursor(String cursor,
+            LocalDateTime startDateTime, LocalDateTime endDateTime) {
+        Pageable limit = PageRequest.of(0, CURSOR_PAGE_SIZE + 1);
+        List<BoardResponseDto> boards;
+        if (cursor == null) {
+            boards = boardRepository.findBetweenFirst(startDateTime, endDateTime, limit);
+        } else {
+            String[] values = CursorUtil.decode(cursor, DATE_CURSOR, 2);
+            boards = boardRepository.findBetweenAfter(startDateTime, endDateTime,
+                    parseDateTime(values[0]), Long.valueOf(values[1]), limit);
+        }
+        return toCursorPage(boards, board -> CursorUtil.encode(DATE_CURSOR,
+                board.getCreateAt().toString(), board.getId().toString()));
+    }
+
+    /**
+     * 페이지 크기보다 하나 더 조회한 결과로 다음 페이지 여부를 판단하고 마지막 게시글로 다음 커서를 만듭니다.
+     */
+    private static CursorPageResponseDto<BoardResponseDto> toCursorPage(
+            List<BoardResponseDto> boards, Function<BoardResponseDto, String> cursorOf) {
+        boolean hasNext = boards.size() > CURSOR_PAGE_SIZE;
+        List<BoardResponseDto> page = hasNext ? boards.subList(0, CURSOR_PAGE_SIZE) : boards;
+        String nextCursor = hasNext ? cursorOf.apply(page.get(page.size() - 1)) : null;
+
+        return new CursorPageResponseDto<>(page, nextCursor, hasNext);
+    }
+
+    private static LocalDateTime parseDateTime(String value) {
+        try {
+            return LocalDateTime.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+
+    /**
+     * 게시글 단건 조회
+     * <p>
+     * 게시글은 {@link BoardReadCache} 에서 꺼내고 캐시 미스일 때만 DB 를 조회합니다. 캐시 적중 시 커넥션을 잡지 않도록 트랜잭션을 걸지 않습니다.
+     * 조회수는 {@link BoardHitCounter} 에 쌓았다가 주기적으로 반영하므로 행 잠금을 잡지 않으며,
+     * 응답의 조회수에는 아직 반영되지 않은 조회수까지 더해 보여줍니다.
+     */
     public BoardResponseDto findBoard(Long boardId) {
 
-        Board board = boardRepository.findByIdAndDeletedAtIsNull(boardId).orElseThrow(
-                () -> new IllegalArgumentException("해당 게시글은 존재하지 않습니다.")
-        );
+        BoardResponseDto board = boardReadCache.get(boardId,
+                id -> boardRepository.findByIdAndDeletedAtIsNull(id)
+                        .map(BoardResponseDto::new)
+                        .orElse(null));
+        if (board == null) {
+            throw new IllegalArgumentException("해당 게시글은 존재하지 않습니다.");
+        }
 
         // 조회수 + 1
-        board.hitsUp();
+        boardHitCounter.increment(boardId);
 
-        return new BoardResponseDto(board);
+        return new BoardResponseDto(board, boardHitCounter.getPending(boardId));
+    }
+
+    /**
+     * 게시글 단건 조회의 버전 정보
+     * <p>
+     * 캐시에 있으면 캐시된 값으로, 없으면 본문을 제외한 수정일자/좋아요 수/조회수만 조회해 만듭니다.
+     * 조회수는 DB 에 반영된 값만 포함하므로 버전은 조회할 때마다가 아니라 조회수를 모아 쓸 때만 바뀝니다.
+     * 응답 본문에는 반영 전 조회수까지 더해지므로 본문과 바이트 단위로 일치하지 않아 약한 ETag 를 씁니다.
+     *
+     * @param boardId 게시글 고유번호
+     */
+    public ContentVersionDto findBoardVersion(Long boardId) {
+        BoardResponseDto cached = boardReadCache.getIfPresent(boardId);
+        if (cached != null) {
+            return toBoardVersion(boardId, cached.getModifiedAt(), cached.getCount(),
+                    cached.getHits());
+        }
+        Object[] version = boardRepository.findVersionById(boardId).stream().findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("해당 게시글은 존재하지 않습니다."));
+        return toBoardVersion(boardId, (LocalDateTime) version[0], (Long) version[1],
+                (Long) version[2]);
+    }
+
+    private static ContentVersionDto toBoardVersion(Long boardId, LocalDateTime modifiedAt,
+            Long likeCount, Long hits) {
+        return ContentVersionDto.weak("b" + boardId + "-" + modifiedAt + "-" + likeCount + "-"
+                + hits);
+    }
+
+    /**
+     * 본문 없이 응답한 조회(304)도 조회수에 반영합니다.
+     *
+     * @param boardId 게시글 고유번호
+     */
+    public void recordView(Long boardId) {
+        boardHitCounter.increment(boardId);
     }
 
     @Transactional
@@ -128,7 +375,9 @@ public class BoardService {
             throw new IllegalArgumentException("작성자만 수정 가능합니다.");
         }
 
-        board.update(requestDto);
+        board.update(requestDto, boardContentCompressor.compress(requestDto.getContent()));
+        boardReadCache.invalidate(boardId);
+        boardSearchIndex.indexAfterCommit(board);
         return new BoardResponseDto(board);
     }
 
@@ -145,7 +394,11 @@ public class BoardService {
         }
 
         // 삭제시간 저장
-        board.setDeletedAt(board.getModifiedAt());
+        board.delete();
+        boardReadCache.invalidate(boardId);
+        likesLeaderboard.boardDeleted(boardId);
+        boardSearchIndex.removeAfterCommit(boardId);
+        boardDayBuckets.boardDeleted(board.getCreatedAt());
         log.info(board.getDeletedAt().toString());
         return new BoardResponseDto(board);
     }
@@ -1,17 +1,26 @@
 package com.sparta.springmid.product.service;
 
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.sparta.springmid.global.util.CursorUtil;
 import com.sparta.springmid.product.dto.CommentRequestDto;
 import com.sparta.springmid.product.dto.CommentResponseDto;
-import com.sparta.springmid.product.model.Board;
+import com.sparta.springmid.product.dto.ContentVersionDto;
+import com.sparta.springmid.product.dto.CursorPageResponseDto;
 import com.sparta.springmid.product.model.Comment;
 import com.sparta.springmid.product.model.User;
 import com.sparta.springmid.product.repository.BoardRepository;
 import com.sparta.springmid.product.repository.CommentRepository;
-import java.util.Collection;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Iterator;
 import java.util.List;
 import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,6 +30,11 @@ public class CommentService {
 
     private final CommentRepository commentRepository;
     private final BoardRepository boardRepository;
+    private final ObjectMapper objectMapper;
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final String COMMENT_CURSOR = "comment";
 
     /**
      * 댓글의 아이디와 삭제상태를
@@ -33,8 +47,9 @@ public class CommentService {
     public CommentResponseDto addComment(User user, Long boardId,
             CommentRequestDto requestDto) {
 
-        Board board = getActiveBoardById(boardId);
-        Comment comment = new Comment(requestDto.getContent(), board, user);
+        checkActiveBoard(boardId);
+        Comment comment = new Comment(requestDto.getContent(),
+                boardRepository.getReferenceById(boardId), user);
         commentRepository.save(comment);
         return new CommentResponseDto(comment);
     }
@@ -45,11 +60,109 @@ public class CommentService {
      * @param boardId 게시글 고유번호
      * @return 댓글의 상세정보 모음
      */
+    @Transactional(readOnly = true)
     public List<CommentResponseDto> getAllComments(Long boardId) {
-        Board board = getActiveBoardById(boardId);
-        return commentRepository.findByDeletedAtNullAndBoardIdOrderByCreatedAtDesc(boardId)
-                .map(Collection::stream).orElseGet(Stream::empty).map(CommentResponseDto::new)
-                .toList();
+        List<CommentResponseDto> comments = commentRepository.findResponsesByBoardId(boardId);
+        if (comments.isEmpty()) {
+            // 댓글이 없을 때만 게시글이 없는 것인지 확인합니다.
+            checkActiveBoard(boardId);
+        }
+        return comments;
+    }
+
+    /**
+     * 게시글에 종속된 댓글을 최신순으로 size 개씩 조회합니다.
+     * <p>
+     * 응답의 nextCursor 를 다음 요청의 cursor 로 넘기면 이어서 조회합니다. 마지막으로 본 댓글 뒤부터 읽으므로 댓글 수와 관계없이 같은 비용입니다.
+     *
+     * @param boardId 게시글 고유번호
+     * @param cursor  이전 응답의 nextCursor, 첫 페이지는 null
+     * @param size    페이지 크기, null 이면 기본 크기
+     * @return 댓글 한 페이지
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponseDto<CommentResponseDto> getCommentsByCursor(Long boardId,
+            String cursor, Integer size) {
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : size;
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException(
+                    "페이지 크기는 1 이상 " + MAX_PAGE_SIZE + " 이하로 입력해주세요.");
+        }
+
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+        List<CommentResponseDto> comments;
+        if (cursor == null) {
+            comments = commentRepository.findPageFirst(boardId, limit);
+        } else {
+            String[] values = CursorUtil.decode(cursor, COMMENT_CURSOR, 2);
+            comments = commentRepository.findPageAfter(boardId, parseDateTime(values[0]),
+                    parseId(values[1]), limit);
+        }
+        if (comments.isEmpty()) {
+            checkActiveBoard(boardId);
+        }
+
+        boolean hasNext = comments.size() > pageSize;
+        List<CommentResponseDto> page = hasNext ? comments.subList(0, pageSize) : comments;
+        CommentResponseDto last = hasNext ? page.get(page.size() - 1) : null;
+        String nextCursor = last == null ? null : CursorUtil.encode(COMMENT_CURSOR,
+                last.getCreatedAt().toString(), last.getId().toString());
+        return new CursorPageResponseDto<>(page, nextCursor, hasNext);
+    }
+
+    /**
+     * 게시글에 종속된 댓글 전체를 NDJSON(한 줄에 댓글 하나)으로 내려줍니다.
+     * <p>
+     * DB 에서 한 행씩 DTO 로 읽어 바로 응답에 쓰므로 댓글 수와 관계없이 메모리 사용량이 일정합니다.
+     *
+     * @param boardId 게시글 고유번호
+     * @param out     응답 스트림
+     */
+    @Transactional(readOnly = true)
+    public void streamComments(Long boardId, OutputStream out) throws IOException {
+        checkActiveBoard(boardId);
+        ObjectWriter writer = objectMapper.writerFor(CommentResponseDto.class);
+
+        try (Stream<CommentResponseDto> comments =
+                commentRepository.streamResponsesByBoardId(boardId)) {
+            Iterator<CommentResponseDto> iterator = comments.iterator();
+            while (iterator.hasNext()) {
+                out.write(writer.writeValueAsBytes(iterator.next()));
+                out.write('\n');
+            }
+        }
+        out.flush();
+    }
+
+    private static LocalDateTime parseDateTime(String value) {
+        try {
+            return LocalDateTime.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+
+    private static Long parseId(String value) {
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+
+    /**
+     * 게시글에 종속된 댓글 목록의 버전 정보를 댓글 본문을 읽지 않고 만듭니다. 게시글 확인도 같은 쿼리에서 합니다.
+     *
+     * @param boardId 게시글 고유번호
+     * @return 댓글 수, 최근 변경시간, 좋아요 버전 합계로 만든 버전
+     */
+    @Transactional(readOnly = true)
+    public ContentVersionDto getCommentsVersion(Long boardId) {
+        Object[] version = commentRepository.findListVersionByBoardId(boardId).stream()
+                .findFirst()
+                .orElseThrow(() -> new NullPointerException("선택한 게시물은 없거나 삭제되었습니다."));
+        return ContentVersionDto.strong("c" + boardId + "-" + version[0] + "-" + version[1] + "-"
+                + version[2]);
     }
 
     /**
@@ -64,7 +177,7 @@ public class CommentService {
     @Transactional
     public CommentResponseDto updateComment(Long userId, Long commentId,
             CommentRequestDto requestDto, Long boardId) {
-        Board board = getActiveBoardById(boardId);
+        checkActiveBoard(boardId);
         Comment comment = getActiveCommentById(commentId);
 
         if (!comment.isCommentAuthor(userId)) {
@@ -84,7 +197,7 @@ public class CommentService {
      */
     @Transactional
     public String deleteComment(Long userId, Long commentId, Long boardId) {
-        Board board = getActiveBoardById(boardId);
+        checkActiveBoard(boardId);
         Comment comment = getActiveCommentById(commentId);
 
         if (!comment.isCommentAuthor(userId)) {
@@ -95,14 +208,14 @@ public class CommentService {
     }
 
     /**
-     * 삭제되지 않은 유효한 게시글을 고유번호로 찾아옵니다.
+     * 삭제되지 않은 유효한 게시글인지 게시글을 읽지 않고 확인합니다.
      *
      * @param boardId 게시글 고유번호
-     * @return 게시글 객체
      */
-    private Board getActiveBoardById(Long boardId) {
-        return boardRepository.findByIdAndDeletedAtIsNull(boardId)
-                .orElseThrow(() -> new NullPointerException("선택한 게시물은 없거나 삭제되었습니다."));
+    private void checkActiveBoard(Long boardId) {
+        if (!boardRepository.existsByIdAndDeletedAtIsNull(boardId)) {
+            throw new NullPointerException("선택한 게시물은 없거나 삭제되었습니다.");
+        }
     }
 
     /**
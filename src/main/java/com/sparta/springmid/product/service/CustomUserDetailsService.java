@@ -34,11 +34,24 @@ public class CustomUserDetailsService implements UserDetailsService {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new UsernameNotFoundException(username));
 
-        if (!Objects.equals(user.getStatus(), StatusEnum.ACTIVE)
-                || user.isExpired()){
+        if (!Objects.equals(user.getStatus(), StatusEnum.ACTIVE)) {
             return null;
         }
 
         return new CustomUserDetails(user);
     }
+
+    /**
+     * 토큰 Claims 로 유저 디테일 생성, User 엔티티는 실제로 필요할 때 조회합니다.
+     *
+     * @param id       유저 고유번호
+     * @param username 아이디
+     * @param status   유저 상태
+     * @return
+     */
+    public CustomUserDetails loadLazyUser(Long id, String username, StatusEnum status) {
+        return new CustomUserDetails(id, username, status,
+                () -> userRepository.findById(id)
+                        .orElseThrow(() -> new UsernameNotFoundException(username)));
+    }
 }
@@ -0,0 +1,223 @@
+package com.sparta.springmid.product.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 삭제된 게시글/댓글 보관 작업
+ * <p>
+ * 삭제된 지 retention-days 가 지난 행을 boards_archive, comments_archive, likes_archive 로 옮기고 원래 테이블에서 지웁니다.
+ * 이렇게 하면 boards, comments 와 그 인덱스는 살아있는 글 크기로 유지됩니다.
+ * <ul>
+ *     <li>단계마다 옮길 행의 id 를 id 순서로 chunk-size 개씩 골라 한 트랜잭션에 옮기고, 묶음 사이에는 pause-ms 만큼 쉬어 운영 트래픽과 잠금을 나눕니다.
+ *     게시글 하나에 댓글이나 좋아요가 아무리 많아도 한 트랜잭션이 옮기는 행은 chunk-size 개를 넘지 않습니다.</li>
+ *     <li>묶음마다 마지막으로 옮긴 id 를 archive_checkpoints 에 같은 트랜잭션으로 기록하므로, 중간에 멈춰도 다음 실행이 이어서 진행합니다.
+ *     한 바퀴를 다 돌면 위치를 0 으로 되돌려 그 사이 삭제된 행도 다음 회차에 옮깁니다.</li>
+ *     <li>보관되는 게시글/댓글의 좋아요는 likes_archive 로 먼저 옮기고, 삭제된 게시글의 댓글은 삭제 여부와 관계없이 게시글보다 먼저 옮깁니다.
+ *     게시글은 남은 댓글이 없을 때만 옮기므로 외래키를 어기지 않습니다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class DeletedContentArchiver {
+
+    private static final String COMMENT_COLUMNS =
+            "id, content, like_count, board_id, user_id, created_at, modified_at, deleted_at";
+    private static final String BOARD_COLUMNS = "id, title, content, content_compressed, hits,"
+            + " like_count, created_at, modified_at, deleted_at, user_id";
+    private static final String LIKE_COLUMNS = "id, content_id, content_type, created_at, user_id";
+
+    /**
+     * 보관 단계, 순서대로 실행합니다. 조회문의 자리표시자는 (이전 위치, 기준 시각..., 묶음 크기) 순서입니다.
+     *
+     * @param name          체크포인트 이름
+     * @param table         옮길 테이블
+     * @param columns       옮길 컬럼
+     * @param selectIds     옮길 행의 id 를 id 순서로 고르는 조회문
+     * @param cutoffParams  조회문에 들어가는 기준 시각의 개수
+     */
+    private record Step(String name, String table, String columns, String selectIds,
+                        int cutoffParams) {
+    }
+
+    private static final List<Step> STEPS = List.of(
+            // 보관될 게시글의 좋아요
+            new Step("board_likes", "likes", LIKE_COLUMNS,
+                    "SELECT l.id FROM likes l JOIN boards b ON b.id = l.content_id"
+                            + " WHERE l.content_type = 'BOARD' AND l.id > ? AND b.deleted_at < ?"
+                            + " ORDER BY l.id LIMIT ?", 1),
+            // 보관될 댓글(직접 삭제되었거나 게시글이 삭제된 댓글)의 좋아요
+            new Step("comment_likes", "likes", LIKE_COLUMNS,
+                    "SELECT l.id FROM likes l JOIN comments c ON c.id = l.content_id"
+                            + " JOIN boards b ON b.id = c.board_id"
+                            + " WHERE l.content_type = 'COMMENT' AND l.id > ?"
+                            + " AND (c.deleted_at < ? OR b.deleted_at < ?)"
+                            + " ORDER BY l.id LIMIT ?", 2),
+            // 삭제된 게시글의 댓글, 댓글 자체는 삭제되지 않았을 수 있습니다.
+            new Step("board_comments", "comments", COMMENT_COLUMNS,
+                    "SELECT c.id FROM comments c JOIN boards b ON b.id = c.board_id"
+                            + " WHERE c.id > ? AND b.deleted_at < ? ORDER BY c.id LIMIT ?", 1),
+            // 직접 삭제된 댓글
+            new Step("comments", "comments", COMMENT_COLUMNS,
+                    "SELECT id FROM comments WHERE id > ? AND deleted_at < ? ORDER BY id LIMIT ?",
+                    1),
+            // 남은 댓글이 없는 삭제된 게시글, 댓글이 남은 게시글은 다음 회차에 옮깁니다.
+            new Step("boards", "boards", BOARD_COLUMNS,
+                    "SELECT b.id FROM boards b WHERE b.id > ? AND b.deleted_at < ?"
+                            + " AND NOT EXISTS (SELECT 1 FROM comments c WHERE c.board_id = b.id)"
+                            + " ORDER BY b.id LIMIT ?", 1)
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final Duration retention;
+    private final int chunkSize;
+    private final long pauseMillis;
+    private final int maxChunksPerRun;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public DeletedContentArchiver(JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            @Value("${board.archive.enabled:false}") boolean enabled,
+            @Value("${board.archive.retention-days:30}") long retentionDays,
+            @Value("${board.archive.chunk-size:500}") int chunkSize,
+            @Value("${board.archive.pause-ms:200}") long pauseMillis,
+            @Value("${board.archive.max-chunks-per-run:200}") int maxChunksPerRun) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.retention = Duration.ofDays(retentionDays);
+        this.chunkSize = chunkSize;
+        this.pauseMillis = pauseMillis;
+        this.maxChunksPerRun = maxChunksPerRun;
+    }
+
+    /**
+     * 보관 기간이 지난 좋아요, 댓글, 게시글 순서로 옮깁니다. 한 번 실행에 최대 max-chunks-per-run 묶음까지만 처리합니다.
+     * <p>
+     * 다른 주기 작업을 막지 않도록 전용 스케줄러(archiveScheduler)에서 실행합니다.
+     */
+    @Scheduled(fixedDelayString = "${board.archive.interval-ms:3600000}",
+            initialDelayString = "${board.archive.interval-ms:3600000}",
+            scheduler = "archiveScheduler")
+    public void archive() {
+        if (!enabled || !running.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+            int budget = maxChunksPerRun;
+            Map<String, Long> movedByStep = new LinkedHashMap<>();
+
+            for (Step step : STEPS) {
+                long total = 0;
+                int moved;
+                boolean interrupted = false;
+                while (budget > 0 && (moved = moveChunk(step, cutoff)) > 0) {
+                    total += moved;
+                    budget--;
+                    if (moved < chunkSize) {
+                        break;
+                    }
+                    if (!pause()) {
+                        interrupted = true;
+                        break;
+                    }
+                }
+                movedByStep.put(step.name(), total);
+                // 예산을 다 썼거나 종료 중이면 뒤 단계는 다음 실행에서 이어갑니다.
+                if (budget == 0 || interrupted) {
+                    break;
+                }
+            }
+            if (movedByStep.values().stream().anyMatch(total -> total > 0)) {
+                log.info("archived deleted content {} (cutoff {})", movedByStep, cutoff);
+            }
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 체크포인트 다음부터 한 묶음을 옮깁니다.
+     *
+     * @return 옮긴 행 수, 더 옮길 행이 없으면 0
+     */
+    private int moveChunk(Step step, LocalDateTime cutoff) {
+        Integer moved = transactionTemplate.execute(status -> {
+            long after = readCheckpoint(step.name());
+            Object[] args = new Object[step.cutoffParams() + 2];
+            args[0] = after;
+            for (int i = 0; i < step.cutoffParams(); i++) {
+                args[i + 1] = cutoff;
+            }
+            args[args.length - 1] = chunkSize;
+            List<Long> ids = jdbcTemplate.queryForList(step.selectIds(), Long.class, args);
+            if (ids.isEmpty()) {
+                writeCheckpoint(step.name(), 0);
+                return 0;
+            }
+
+            move(step.table(), step.columns(), ids, LocalDateTime.now());
+            // 한 묶음을 다 채우지 못했으면 이번 회차는 끝났으므로 다음 회차는 처음부터 시작합니다.
+            writeCheckpoint(step.name(), ids.size() < chunkSize ? 0 : ids.get(ids.size() - 1));
+            return ids.size();
+        });
+        return moved == null ? 0 : moved;
+    }
+
+    private void move(String table, String columns, List<Long> ids, LocalDateTime archivedAt) {
+        String in = String.join(", ", Collections.nCopies(ids.size(), "?"));
+        Object[] args = new Object[ids.size() + 1];
+        args[0] = archivedAt;
+        for (int i = 0; i < ids.size(); i++) {
+            args[i + 1] = ids.get(i);
+        }
+
+        jdbcTemplate.update("INSERT INTO " + table + "_archive (" + columns + ", archived_at)"
+                + " SELECT " + columns + ", ? FROM " + table + " WHERE id IN (" + in + ")", args);
+        jdbcTemplate.update("DELETE FROM " + table + " WHERE id IN (" + in + ")",
+                ids.toArray());
+    }
+
+    private long readCheckpoint(String name) {
+        List<Long> lastIds = jdbcTemplate.queryForList(
+                "SELECT last_id FROM archive_checkpoints WHERE name = ? FOR UPDATE",
+                Long.class, name);
+        return lastIds.isEmpty() ? 0 : lastIds.get(0);
+    }
+
+    private void writeCheckpoint(String name, long lastId) {
+        jdbcTemplate.update("INSERT INTO archive_checkpoints (name, last_id, updated_at)"
+                        + " VALUES (?, ?, ?)"
+                        + " ON DUPLICATE KEY UPDATE last_id = VALUES(last_id),"
+                        + " updated_at = VALUES(updated_at)",
+                name, lastId, LocalDateTime.now());
+    }
+
+    /**
+     * 묶음 사이 쉬기, 종료 중이라 인터럽트되면 false
+     */
+    private boolean pause() {
+        try {
+            Thread.sleep(pauseMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -22,6 +22,8 @@ public class LikeService {
     private final LikeRepository likeRepository;
     private final BoardRepository boardRepository;
     private final CommentRepository commentRepository;
+    private final BoardReadCache boardReadCache;
+    private final LikesLeaderboard likesLeaderboard;
 
     /**
      * 지정된 Repository 로 Service 를 생성합니다.
@@ -29,12 +31,17 @@ public class LikeService {
      * @param likeRepository    Like Entity 의 저장장소
      * @param boardRepository   Board Entity 의 저장장소
      * @param commentRepository Comment Entity 의 저장장소
+     * @param boardReadCache    좋아요 수가 바뀐 게시글을 무효화할 캐시
+     * @param likesLeaderboard  좋아요 수가 바뀐 게시글을 반영할 좋아요순 인덱스
      */
     public LikeService(LikeRepository likeRepository, BoardRepository boardRepository,
-            CommentRepository commentRepository) {
+            CommentRepository commentRepository, BoardReadCache boardReadCache,
+            LikesLeaderboard likesLeaderboard) {
         this.likeRepository = likeRepository;
         this.boardRepository = boardRepository;
         this.commentRepository = commentRepository;
+        this.boardReadCache = boardReadCache;
+        this.likesLeaderboard = likesLeaderboard;
     }
 
     /**
@@ -107,6 +114,8 @@ public class LikeService {
     private void incrementLikeCount(Long contentId, String contentType) {
         if (LikeTypeEnum.BOARD.equalsType(contentType)) { // 게시판 일때
             boardRepository.incrementLikeCount(contentId);
+            boardReadCache.invalidate(contentId);
+            likesLeaderboard.likeCountChanged(contentId);
         } else if (LikeTypeEnum.COMMENT.equalsType(contentType)) { // 댓글 일때
             commentRepository.incrementLikeCount(contentId);
         } else {
@@ -123,6 +132,8 @@ public class LikeService {
     private void decrementLikeCount(Long contentId, String contentType) {
         if (LikeTypeEnum.BOARD.equalsType(contentType)) { // 게시판 일때
             boardRepository.decrementLikeCount(contentId);
+            boardReadCache.invalidate(contentId);
+            likesLeaderboard.likeCountChanged(contentId);
         } else if (LikeTypeEnum.COMMENT.equalsType(contentType)) { // 댓글 일때
             commentRepository.decrementLikeCount(contentId);
         } else {
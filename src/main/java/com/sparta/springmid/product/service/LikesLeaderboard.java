@@ -0,0 +1,280 @@
+package com.sparta.springmid.product.service;
+
+import com.sparta.springmid.global.util.TransactionUtil;
+import com.sparta.springmid.product.repository.BoardRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 좋아요순 상위 게시글 인덱스
+ * <p>
+ * 좋아요가 많은 게시글 상위 capacity 개를 (좋아요 수 내림차순, id 내림차순)으로 메모리에 정렬해 두고, 좋아요 피드를 테이블 정렬 없이 내려줍니다.
+ * <ul>
+ *     <li>기동 시와 주기적으로 DB 에서 다시 만들고, 그 사이에는 좋아요 토글과 게시글 작성/삭제가 커밋될 때마다 갱신합니다.</li>
+ *     <li>좋아요 수는 잠금 밖에서 조회하고, 조회를 시작하기 전에 받은 번호(ticket)로 더 늦게 시작한 조회의 결과만 반영합니다.
+ *     잠금은 메모리 구조를 바꾸는 동안만 잡으므로 좋아요 토글끼리 DB 조회를 기다리지 않습니다.</li>
+ *     <li>인덱스 밖의 게시글이 가질 수 있는 최대 좋아요 수(outsiderCeiling)를 함께 관리합니다. 좋아요 수가 이 값보다 큰 인덱스 앞부분만
+ *     실제 순위와 같다고 보장되므로, 요청한 페이지가 이 범위를 벗어나면 empty 를 반환해 DB 로 조회하게 합니다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class LikesLeaderboard {
+
+    /**
+     * 인덱스 밖에 게시글이 하나도 없을 때의 outsiderCeiling
+     */
+    private static final long NO_OUTSIDERS = -1;
+
+    private static final Comparator<Entry> ORDER = Comparator
+            .comparingLong(Entry::likeCount).reversed()
+            .thenComparing(Comparator.comparingLong(Entry::boardId).reversed());
+
+    private final BoardRepository boardRepository;
+    private final int capacity;
+
+    private final ConcurrentSkipListSet<Entry> ranking = new ConcurrentSkipListSet<>(ORDER);
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final AtomicLong tickets = new AtomicLong();
+
+    /**
+     * 마지막 재구성의 ticket, 이보다 먼저 시작한 조회는 재구성 결과보다 오래되었으므로 버립니다.
+     */
+    private long rebuiltAt;
+
+    /**
+     * 재구성 이후 삭제된 게시글과 삭제 시점의 ticket, 삭제 전에 시작한 조회가 게시글을 되살리지 않도록 합니다.
+     */
+    private final Map<Long, Long> removedAt = new HashMap<>();
+    private volatile long outsiderCeiling = Long.MAX_VALUE; // 만들기 전에는 아무것도 보장하지 않습니다.
+
+    private final Counter served;
+    private final Counter fallback;
+
+    public LikesLeaderboard(BoardRepository boardRepository,
+            @Value("${board.likes-leaderboard.capacity:2000}") int capacity,
+            MeterRegistry meterRegistry) {
+        this.boardRepository = boardRepository;
+        this.capacity = capacity;
+        this.served = Counter.builder("board.likes.leaderboard")
+                .tag("result", "served")
+                .register(meterRegistry);
+        this.fallback = Counter.builder("board.likes.leaderboard")
+                .tag("result", "fallback")
+                .register(meterRegistry);
+        Gauge.builder("board.likes.leaderboard.size", ranking, ConcurrentSkipListSet::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * DB 에서 인덱스를 다시 만듭니다.
+     * <p>
+     * 갱신 중에는 다른 변경을 막고, 이 조회보다 먼저 시작한 좋아요 수 조회의 결과는 이후에 버립니다.
+     * 주기적으로 한 번씩만 실행되므로 조회하는 동안 잠금을 잡습니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${board.likes-leaderboard.rebuild-interval-ms:600000}",
+            initialDelayString = "${board.likes-leaderboard.rebuild-interval-ms:600000}")
+    public synchronized void rebuild() {
+        long ticket = tickets.incrementAndGet();
+        List<Object[]> rows = boardRepository.findTopLikeCounts(PageRequest.of(0, capacity + 1));
+
+        ranking.clear();
+        entries.clear();
+        removedAt.clear();
+        rebuiltAt = ticket;
+        for (int i = 0; i < Math.min(rows.size(), capacity); i++) {
+            put(new Entry((Long) rows.get(i)[0], (Long) rows.get(i)[1], ticket));
+        }
+        outsiderCeiling = rows.size() > capacity ? (Long) rows.get(capacity)[1] : NO_OUTSIDERS;
+        log.info("likes leaderboard rebuilt: {} boards, outsider ceiling {}", ranking.size(),
+                outsiderCeiling);
+    }
+
+    /**
+     * 좋아요순 페이지의 게시글 id, 인덱스만으로 정확한 순위를 보장할 수 없으면 empty
+     *
+     * @param offset 건너뛸 게시글 수
+     * @param size   페이지 크기
+     * @return
+     */
+    public Optional<LeaderboardPage> page(long offset, int size) {
+        long ceiling = outsiderCeiling;
+        List<Long> ids = new ArrayList<>(size);
+        boolean hasNext = false;
+        long position = 0;
+
+        Iterator<Entry> iterator = ranking.iterator();
+        while (iterator.hasNext()) {
+            Entry entry = iterator.next();
+            if (entry.likeCount() <= ceiling) {
+                break; // 여기부터는 인덱스 밖 게시글이 끼어들 수 있습니다.
+            }
+            if (position >= offset + size) {
+                hasNext = true;
+                break;
+            }
+            if (position >= offset) {
+                ids.add(entry.boardId());
+            }
+            position++;
+        }
+
+        // 다음 게시글까지 순위가 보장되거나, 인덱스가 전체 게시글을 담고 있으면 인덱스만으로 내려줄 수 있습니다.
+        if (hasNext || ceiling == NO_OUTSIDERS) {
+            served.increment();
+            return Optional.of(new LeaderboardPage(ids, hasNext));
+        }
+        fallback.increment();
+        return Optional.empty();
+    }
+
+    /**
+     * 좋아요 수가 바뀐 게시글 반영, 트랜잭션 안이면 커밋 후에 반영합니다.
+     *
+     * @param boardId 게시글 고유번호
+     */
+    public void likeCountChanged(Long boardId) {
+        TransactionUtil.afterCommit(() -> refresh(boardId));
+    }
+
+    /**
+     * 새 게시글 반영
+     *
+     * @param boardId 게시글 고유번호
+     */
+    public void boardCreated(Long boardId) {
+        TransactionUtil.afterCommit(() -> placeNew(List.of(boardId)));
+    }
+
+    /**
+     * 한꺼번에 등록된 게시글 반영
+     *
+     * @param boardIds 게시글 고유번호 목록
+     */
+    public void boardsImported(List<Long> boardIds) {
+        TransactionUtil.afterCommit(() -> placeNew(boardIds));
+    }
+
+    /**
+     * 삭제된 게시글 제거
+     *
+     * @param boardId 게시글 고유번호
+     */
+    public void boardDeleted(Long boardId) {
+        TransactionUtil.afterCommit(() -> remove(boardId));
+    }
+
+    /**
+     * 게시글의 현재 좋아요 수를 읽어 인덱스에 반영합니다.
+     * <p>
+     * 조회는 잠금 밖에서 합니다. 나중에 받은 ticket 의 조회는 먼저 받은 조회가 본 커밋을 모두 보므로,
+     * 게시글마다 더 큰 ticket 의 결과만 반영하면 반영 순서가 뒤바뀌어도 오래된 값으로 덮어쓰지 않습니다.
+     */
+    private void refresh(Long boardId) {
+        long ticket = tickets.incrementAndGet();
+        Optional<Long> likeCount = boardRepository.findLikeCountById(boardId);
+
+        synchronized (this) {
+            Entry current = entries.get(boardId);
+            if (ticket < rebuiltAt || ticket < removedAt.getOrDefault(boardId, 0L)
+                    || (current != null && current.ticket() > ticket)) {
+                return;
+            }
+            if (likeCount.isEmpty()) {
+                removeEntry(boardId);
+                return;
+            }
+            place(boardId, likeCount.get(), ticket);
+        }
+    }
+
+    /**
+     * 새 게시글의 좋아요 수는 0 이므로 조회하지 않습니다. 그 사이 좋아요가 눌려 이미 반영된 게시글은 건너뜁니다.
+     */
+    private synchronized void placeNew(List<Long> boardIds) {
+        long ticket = tickets.incrementAndGet();
+        boardIds.forEach(boardId -> {
+            if (!entries.containsKey(boardId)) {
+                place(boardId, 0, ticket);
+            }
+        });
+    }
+
+    private void place(Long boardId, long count, long ticket) {
+        Entry current = entries.get(boardId);
+        if (current != null) {
+            ranking.remove(current);
+            put(new Entry(boardId, count, ticket));
+            return;
+        }
+
+        Entry candidate = new Entry(boardId, count, ticket);
+        if (ranking.size() < capacity) {
+            if (outsiderCeiling == NO_OUTSIDERS || count > outsiderCeiling) {
+                put(candidate);
+            } else {
+                outsiderCeiling = Math.max(outsiderCeiling, count);
+            }
+            return;
+        }
+        Entry lowest = ranking.last();
+        if (ORDER.compare(candidate, lowest) < 0) {
+            removeEntry(lowest.boardId());
+            put(candidate);
+            outsiderCeiling = Math.max(outsiderCeiling, lowest.likeCount());
+        } else {
+            outsiderCeiling = Math.max(outsiderCeiling, count);
+        }
+    }
+
+    private synchronized void remove(Long boardId) {
+        removedAt.put(boardId, tickets.incrementAndGet());
+        // 인덱스 밖 게시글이 삭제되어도 outsiderCeiling 은 줄이지 않고 다음 재구성 때 다시 맞춥니다.
+        removeEntry(boardId);
+    }
+
+    private void put(Entry entry) {
+        entries.put(entry.boardId(), entry);
+        ranking.add(entry);
+    }
+
+    private void removeEntry(Long boardId) {
+        Entry entry = entries.remove(boardId);
+        if (entry != null) {
+            ranking.remove(entry);
+        }
+    }
+
+    /**
+     * @param ticket 이 좋아요 수를 읽은 조회의 ticket
+     */
+    private record Entry(long boardId, long likeCount, long ticket) {
+
+    }
+
+    /**
+     * @param boardIds 순서대로 정렬된 게시글 id
+     * @param hasNext  다음 페이지 존재 여부
+     */
+    public record LeaderboardPage(List<Long> boardIds, boolean hasNext) {
+
+    }
+}
@@ -0,0 +1,113 @@
+package com.sparta.springmid.product.service;
+
+import com.sparta.springmid.global.jwt.TokenProvider;
+import com.sparta.springmid.global.util.SHA256Util;
+import com.sparta.springmid.product.model.RefreshToken;
+import com.sparta.springmid.product.model.User;
+import com.sparta.springmid.product.repository.RefreshTokenRepository;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 리프레시 토큰 저장, 교체(rotation), 폐지를 담당하는 서비스
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RefreshTokenService {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final TokenProvider tokenProvider;
+
+    /**
+     * 로그인 시 새 재발급 체인을 시작하며 토큰을 저장합니다.
+     *
+     * @param user         사용자 객체
+     * @param refreshToken 발급한 리프레시 토큰
+     */
+    @Transactional
+    public void issue(User user, String refreshToken) {
+        save(user, refreshToken, UUID.randomUUID().toString());
+    }
+
+    /**
+     * 재발급에 사용된 토큰을 확인하고 사용 처리합니다.
+     * <p>
+     * 이미 사용된 토큰이 다시 들어오면 탈취된 것으로 보고 같은 체인의 토큰을 모두 폐지합니다.
+     * 사용 처리는 아직 사용되지 않은 경우에만 바꾸는 조건부 UPDATE 로 하므로, 같은 토큰으로 동시에 재발급을 요청해도 하나만 성공하고
+     * 나머지는 재사용으로 처리됩니다.
+     *
+     * @param refreshToken 요청 헤더의 리프레시 토큰
+     * @return 사용 처리된 토큰 (사용자 포함)
+     */
+    @Transactional(noRollbackFor = IllegalArgumentException.class)
+    public RefreshToken use(String refreshToken) {
+        RefreshToken stored = refreshTokenRepository.findWithUserByTokenHash(
+                        SHA256Util.hash(refreshToken))
+                .orElseThrow(() -> new IllegalArgumentException("잘못된 토큰입니다."));
+
+        if (stored.isUsed()) {
+            revokeReusedFamily(stored);
+        }
+        if (stored.isExpired()) {
+            throw new IllegalArgumentException("만료된 토큰입니다.");
+        }
+        // 조회 이후 다른 요청이 먼저 사용 처리했다면 바뀐 행이 없습니다.
+        if (refreshTokenRepository.markUsed(stored.getTokenHash()) == 0) {
+            revokeReusedFamily(stored);
+        }
+        return stored;
+    }
+
+    private void revokeReusedFamily(RefreshToken stored) {
+        int revoked = refreshTokenRepository.deleteByFamilyId(stored.getFamilyId());
+        log.warn("refresh token reuse detected, family {} revoked ({} tokens)",
+                stored.getFamilyId(), revoked);
+        throw new IllegalArgumentException("폐지된 토큰입니다.");
+    }
+
+    /**
+     * 사용된 토큰과 같은 재발급 체인으로 새 토큰을 저장합니다.
+     *
+     * @param used         재발급에 사용된 토큰
+     * @param refreshToken 새로 발급한 리프레시 토큰
+     */
+    @Transactional
+    public void rotate(RefreshToken used, String refreshToken) {
+        save(used.getUser(), refreshToken, used.getFamilyId());
+    }
+
+    /**
+     * 사용자의 리프레시 토큰을 모두 폐지합니다.
+     *
+     * @param userId 사용자 고유번호
+     */
+    @Transactional
+    public void revokeAll(Long userId) {
+        refreshTokenRepository.deleteByUserId(userId);
+    }
+
+    /**
+     * 만료된 토큰 일괄 삭제
+     */
+    @Transactional
+    @Scheduled(fixedDelayString = "${jwt.refresh.purge-interval-ms:3600000}")
+    public void purgeExpired() {
+        int deleted = refreshTokenRepository.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            log.info("purged {} expired refresh tokens", deleted);
+        }
+    }
+
+    private void save(User user, String refreshToken, String familyId) {
+        LocalDateTime expiresAt = LocalDateTime.now()
+                .plusNanos(tokenProvider.getJwtExpirationMillis() * 1_000_000);
+        refreshTokenRepository.save(
+                new RefreshToken(SHA256Util.hash(refreshToken), familyId, user, expiresAt));
+    }
+}
@@ -3,6 +3,10 @@ package com.sparta.springmid.product.service;
 import com.sparta.springmid.global.enums.AuthEnum;
 import com.sparta.springmid.global.enums.StatusEnum;
 import com.sparta.springmid.global.jwt.TokenProvider;
+import com.sparta.springmid.global.jwt.TokenRevocationRegistry;
+import com.sparta.springmid.global.security.CustomUserDetails;
+import com.sparta.springmid.global.security.PasswordHasher;
+import com.sparta.springmid.global.util.TransactionUtil;
 import com.sparta.springmid.product.dto.PasswordChangeRequestDto;
 import com.sparta.springmid.product.dto.SignOutRequestDto;
 import com.sparta.springmid.product.dto.SignupRequestDto;
@@ -22,13 +26,12 @@ import java.util.Objects;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.web.authentication.logout.LogoutHandler;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -40,9 +43,15 @@ public class UserService implements LogoutHandler {
 
     private final UserRepository userRepository;
     private final BoardRepository boardRepository;
-    private final BCryptPasswordEncoder passwordEncoder;
-    private final AuthenticationManagerBuilder authenticationManagerBuilder;
+    private final PasswordHasher passwordHasher;
     private final TokenProvider tokenProvider;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
+    private final RefreshTokenService refreshTokenService;
+    private final BoardReadCache boardReadCache;
+    private final LikesLeaderboard likesLeaderboard;
+    private final BoardSearchIndex boardSearchIndex;
+    private final BoardDayBuckets boardDayBuckets;
+    private final JdbcTemplate jdbcTemplate;
 
     /**
      * @Transactional 을 걸어 저장 실패의 경우는 롤백
@@ -55,7 +64,7 @@ public class UserService implements LogoutHandler {
 
         user.serUserInfo(requestDto.getUsername(),
                 requestDto.getNickname(),
-                passwordEncoder.encode(requestDto.getPassword()),
+                passwordHasher.encode(requestDto.getPassword()),
                 requestDto.getEmail(),
                 requestDto.getInfo()
         );
@@ -83,33 +92,45 @@ public class UserService implements LogoutHandler {
 
         getUserDetails(userId, user);
         checkPassword(user.getPassword(), requestDto.getOldPassword()); // 저장되어 있는 비밀번호와 맞는지 검증
-        user.updatePassword(passwordEncoder.encode(requestDto.getNewPassword()));
+        user.updatePassword(passwordHasher.encode(requestDto.getNewPassword()));
         userRepository.save(user);
     }
 
-    @Transactional
+    /**
+     * 로그인 메서드
+     * 비밀번호 해시만 먼저 읽어 DB 연결을 돌려준 뒤 검증하고, 검증이 끝나면 유저를 조회해 토큰을 발급합니다.
+     * <p>
+     * BCrypt 검증은 대기열을 포함해 수백 ms 가 걸릴 수 있어 트랜잭션 안에서 하면 그동안 커넥션을 잡고 있게 됩니다.
+     * 요청 범위 EntityManager(open-in-view)는 처음 쓴 커넥션을 요청이 끝날 때까지 잡고 있으므로 해시 조회는 JdbcTemplate 으로 합니다.
+     * @param username
+     * @param password
+     * @return 발급된 토큰
+     */
     public TokenDto login(String username, String password) {
-        Optional<User> user = userRepository.findUserByUsernameAndStatus(username, StatusEnum.ACTIVE);
-        checkPassword(user.get().getPassword(), password);
-
-        // 이 객체는 인증 프로세스의 초기 단계에서 사용자의 인증 정보를 담고 있으며,
-        // Authentication 인터페이스를 구현하고 있습니다.
-        // 이 토큰은 인증을 위해 필요한 주요 정보(주로 사용자 이름과 비밀번호)를 포함합니다.
-        UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(
-                username,password);
-
-        // 인증 된 정보를 기반으로 Manager에서 검증을 진행합니다.
-        Authentication authentication = authenticationManagerBuilder.getObject()
-                .authenticate(authenticationToken);
+        String encryptedPassword = jdbcTemplate.query(
+                        "SELECT password FROM users WHERE username = ? AND status = ?",
+                        (rs, rowNum) -> rs.getString(1), username, StatusEnum.ACTIVE.name())
+                .stream().findFirst().orElseThrow();
+        checkPassword(encryptedPassword, password);
+
+        User user = userRepository.findUserByUsernameAndStatus(username, StatusEnum.ACTIVE)
+                .orElseThrow();
+        // 검증하는 사이에 비밀번호가 바뀌었으면 바뀐 비밀번호로 다시 로그인해야 합니다.
+        if (!encryptedPassword.equals(user.getPassword())) {
+            throw new IllegalArgumentException("Invalid password.");
+        }
+
+        // 검증이 끝난 유저로 인증 객체를 만듭니다.
+        CustomUserDetails userDetails = new CustomUserDetails(user);
+        Authentication authentication = new UsernamePasswordAuthenticationToken(userDetails, "",
+                userDetails.getAuthorities());
         log.debug("SecurityContext에 Authentication 저장.");
-        // user 활성화 -> login
-        user.get().setExpired(false);
         SecurityContext context = SecurityContextHolder.createEmptyContext();
         TokenDto tokenDto = tokenProvider.generateToken(authentication);
 
         context.setAuthentication(authentication);
         SecurityContextHolder.setContext(context);
-        user.get().updateToken(tokenDto.getRefreshToken());
+        refreshTokenService.issue(user, tokenDto.getRefreshToken());
 
         return new TokenDto(AuthEnum.GRANT_TYPE.getValue(), tokenDto.getAccessToken(),
                 tokenDto.getRefreshToken(), false);
@@ -136,26 +157,42 @@ public class UserService implements LogoutHandler {
         String username = tokenProvider.getUsername(accessToken);
 
         Optional<User> userStatus = userRepository.findUserByUsernameAndStatus(username, StatusEnum.ACTIVE);
-        // user 로그아웃 -> user 비활성화
-        userStatus.get().setExpired(true);
+        // user 로그아웃 -> 지금까지 발급된 토큰 폐지
+        revokeTokens(userStatus.get());
     }
 
+    @Transactional
     public void signOut(Long userId, SignOutRequestDto requestDto, User user) {
         getUserDetails(userId, user);
         checkPassword(user.getPassword(), requestDto.getPassword());
 
         List<Board> boards = boardRepository.findByUserId(user.getId());
         boards.forEach(board -> {
-            board.setDeletedAt(LocalDateTime.now());
+            board.delete();
+            boardReadCache.invalidate(board.getId());
+            likesLeaderboard.boardDeleted(board.getId());
+            boardSearchIndex.removeAfterCommit(board.getId());
+            boardDayBuckets.boardDeleted(board.getCreatedAt());
             board.getComments().forEach(Comment::delete); // 각 게시물의 댓글도 소프트 딜리트
         });
-        user.setExpired(true); // 회원 탈퇴시 true로 더 이상 다른 로직이 불가하게 만듭니다.
+        revokeTokens(user); // 회원 탈퇴시 토큰을 폐지해 더 이상 다른 로직이 불가하게 만듭니다.
         user.softDelete();
         userRepository.save(user);
     }
 
+    /**
+     * 지금까지 발급된 유저의 토큰을 모두 폐지합니다.
+     * 메모리의 폐지 목록은 커밋된 뒤에 갱신해 롤백된 폐지가 남지 않도록 합니다.
+     */
+    private void revokeTokens(User user) {
+        Long userId = user.getId();
+        LocalDateTime revokedAt = user.revokeTokens();
+        refreshTokenService.revokeAll(userId);
+        TransactionUtil.afterCommit(() -> tokenRevocationRegistry.revoke(userId, revokedAt));
+    }
+
     private void checkPassword(String encryptedPassword, String rawPassword) {
-        if (!passwordEncoder.matches(rawPassword, encryptedPassword)) {
+        if (!passwordHasher.matches(rawPassword, encryptedPassword)) {
             throw new IllegalArgumentException("Invalid password.");
         }
     }
@@ -0,0 +1,13 @@
+-- 보관된 게시글/댓글에 눌렸던 좋아요. 컬럼은 likes 와 같고 옮긴 시각만 더합니다.
+
+CREATE TABLE IF NOT EXISTS likes_archive
+(
+    id           bigint                   NOT NULL,
+    content_id   bigint                   NOT NULL,
+    content_type enum ('BOARD','COMMENT') NOT NULL,
+    created_at   datetime(6)              NOT NULL,
+    user_id      bigint                   NOT NULL,
+    archived_at  datetime(6)              NOT NULL,
+    PRIMARY KEY (id),
+    INDEX idx_likes_archive_content (content_type, content_id)
+) ENGINE = InnoDB;
@@ -0,0 +1,3 @@
+-- 댓글 좋아요/취소 때마다 늘어나는 버전, 댓글 목록의 ETag 에 씁니다.
+
+ALTER TABLE comments ADD COLUMN like_version bigint NOT NULL DEFAULT 0;
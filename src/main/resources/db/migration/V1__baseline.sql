@@ -0,0 +1,74 @@
+-- ddl-auto=update 로 만들어진 기존 스키마 (Flyway 도입 전 마지막 배포 기준).
+-- 이미 테이블이 있는 DB 는 baseline-on-migrate 로 이 버전을 적용된 것으로 표시하고 V2 부터 실행하므로,
+-- 이후에 추가된 테이블과 컬럼은 여기에 넣지 않고 V2 이후의 스크립트로 추가합니다.
+
+CREATE TABLE users
+(
+    id                bigint       NOT NULL AUTO_INCREMENT,
+    created_at        datetime(6)  NOT NULL,
+    modified_at       datetime(6)  NOT NULL,
+    deleted_at        datetime(6),
+    username          varchar(255) NOT NULL,
+    nickname          varchar(255) NOT NULL,
+    password          varchar(255) NOT NULL,
+    email             varchar(255) NOT NULL,
+    info              varchar(255),
+    status            enum ('DELETED','ACTIVE','VERYFICATION') NOT NULL,
+    refresh_token     varchar(255),
+    expired           bit          NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_username UNIQUE (username),
+    CONSTRAINT uk_users_nickname UNIQUE (nickname),
+    CONSTRAINT uk_users_email UNIQUE (email)
+) ENGINE = InnoDB;
+
+CREATE TABLE boards
+(
+    id                 bigint       NOT NULL AUTO_INCREMENT,
+    title              varchar(255) NOT NULL,
+    content            varchar(255) NOT NULL,
+    hits               bigint       NOT NULL,
+    like_count         bigint       NOT NULL,
+    created_at         datetime(6),
+    modified_at        datetime(6),
+    deleted_at         datetime(6),
+    user_id            bigint       NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_boards_user FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE comments
+(
+    id          bigint       NOT NULL AUTO_INCREMENT,
+    content     varchar(255) NOT NULL,
+    like_count  bigint       NOT NULL,
+    board_id    bigint       NOT NULL,
+    user_id     bigint       NOT NULL,
+    created_at  datetime(6)  NOT NULL,
+    modified_at datetime(6)  NOT NULL,
+    deleted_at  datetime(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_comments_board FOREIGN KEY (board_id) REFERENCES boards (id),
+    CONSTRAINT fk_comments_user FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE likes
+(
+    id           bigint                    NOT NULL AUTO_INCREMENT,
+    content_id   bigint                    NOT NULL,
+    content_type enum ('BOARD','COMMENT')  NOT NULL,
+    created_at   datetime(6)               NOT NULL,
+    user_id      bigint                    NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_likes_user FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE api_use_time
+(
+    id         bigint NOT NULL AUTO_INCREMENT,
+    user_id    bigint NOT NULL,
+    total_time bigint NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_api_use_time_user UNIQUE (user_id),
+    CONSTRAINT fk_api_use_time_user FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE = InnoDB;
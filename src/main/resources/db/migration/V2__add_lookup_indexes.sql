@@ -0,0 +1,47 @@
+-- 피드, 댓글 목록, 좋아요 토글, 로그인 조회에 쓰는 복합 인덱스.
+-- ddl-auto=update 시절 @Index 선언으로 이미 만들어진 DB 가 있으므로 없을 때만 만듭니다.
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics
+               WHERE table_schema = DATABASE() AND table_name = 'boards'
+                 AND index_name = 'idx_boards_deleted_created') = 0,
+              'CREATE INDEX idx_boards_deleted_created ON boards (deleted_at, created_at, id)',
+              'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics
+               WHERE table_schema = DATABASE() AND table_name = 'boards'
+                 AND index_name = 'idx_boards_deleted_like') = 0,
+              'CREATE INDEX idx_boards_deleted_like ON boards (deleted_at, like_count, id)',
+              'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics
+               WHERE table_schema = DATABASE() AND table_name = 'comments'
+                 AND index_name = 'idx_comments_board_deleted_created') = 0,
+              'CREATE INDEX idx_comments_board_deleted_created ON comments (board_id, deleted_at, created_at, id)',
+              'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics
+               WHERE table_schema = DATABASE() AND table_name = 'likes'
+                 AND index_name = 'idx_likes_user_content') = 0,
+              'CREATE INDEX idx_likes_user_content ON likes (user_id, content_id, content_type)',
+              'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics
+               WHERE table_schema = DATABASE() AND table_name = 'users'
+                 AND index_name = 'idx_users_username_status') = 0,
+              'CREATE INDEX idx_users_username_status ON users (username, status)',
+              'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
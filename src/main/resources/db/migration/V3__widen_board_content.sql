@@ -0,0 +1,3 @@
+-- 압축하지 않은 본문(압축 기준 크기 미만이거나 압축 효과가 작은 본문)을 그대로 저장할 수 있도록 본문 컬럼을 넓힙니다.
+-- ddl-auto=update 는 기존 컬럼의 타입을 바꾸지 않으므로 그동안 varchar(255) 로 남아 있었습니다.
+ALTER TABLE boards MODIFY content MEDIUMTEXT NOT NULL;
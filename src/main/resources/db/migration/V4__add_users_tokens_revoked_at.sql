@@ -0,0 +1,11 @@
+-- 로그아웃/탈퇴 시 그때까지 발급된 토큰을 폐지하는 시각.
+-- Flyway 도입 전 ddl-auto=update 로 이미 추가된 DB 가 있을 수 있으므로 없을 때만 추가합니다.
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.columns
+               WHERE table_schema = DATABASE() AND table_name = 'users'
+                 AND column_name = 'tokens_revoked_at') = 0,
+              'ALTER TABLE users ADD COLUMN tokens_revoked_at datetime(6)',
+              'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
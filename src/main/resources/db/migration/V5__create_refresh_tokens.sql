@@ -0,0 +1,18 @@
+-- 해시로 저장하는 리프레시 토큰, 회전할 때마다 같은 family 로 이어집니다.
+-- Flyway 도입 전 ddl-auto=update 로 이미 만들어진 DB 가 있을 수 있으므로 없을 때만 만듭니다.
+
+CREATE TABLE IF NOT EXISTS refresh_tokens
+(
+    id         bigint      NOT NULL AUTO_INCREMENT,
+    token_hash varchar(64) NOT NULL,
+    family_id  varchar(36) NOT NULL,
+    user_id    bigint      NOT NULL,
+    expires_at datetime(6) NOT NULL,
+    used       bit         NOT NULL,
+    created_at datetime(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_refresh_tokens_token_hash UNIQUE (token_hash),
+    INDEX idx_refresh_tokens_family_id (family_id),
+    INDEX idx_refresh_tokens_expires_at (expires_at),
+    CONSTRAINT fk_refresh_tokens_user FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE = InnoDB;
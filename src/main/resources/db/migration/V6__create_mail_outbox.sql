@@ -0,0 +1,18 @@
+-- 트랜잭션과 함께 저장했다가 백그라운드에서 보내는 메일 outbox.
+-- Flyway 도입 전 ddl-auto=update 로 이미 만들어진 DB 가 있을 수 있으므로 없을 때만 만듭니다.
+
+CREATE TABLE IF NOT EXISTS mail_outbox
+(
+    id              bigint                           NOT NULL AUTO_INCREMENT,
+    to_address      varchar(255)                     NOT NULL,
+    subject         varchar(255)                     NOT NULL,
+    content         varchar(4000)                    NOT NULL,
+    status          enum ('PENDING','SENT','FAILED') NOT NULL,
+    attempts        integer                          NOT NULL,
+    next_attempt_at datetime(6)                      NOT NULL,
+    last_error      varchar(500),
+    created_at      datetime(6)                      NOT NULL,
+    sent_at         datetime(6),
+    PRIMARY KEY (id),
+    INDEX idx_mail_outbox_status_next_attempt (status, next_attempt_at)
+) ENGINE = InnoDB;
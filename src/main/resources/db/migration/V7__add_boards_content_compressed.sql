@@ -0,0 +1,11 @@
+-- 큰 본문을 Deflate 로 압축해 저장하는 컬럼, 압축하지 않은 본문은 content 에 그대로 둡니다.
+-- Flyway 도입 전 ddl-auto=update 로 이미 추가된 DB 가 있을 수 있으므로 없을 때만 추가합니다.
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.columns
+               WHERE table_schema = DATABASE() AND table_name = 'boards'
+                 AND column_name = 'content_compressed') = 0,
+              'ALTER TABLE boards ADD COLUMN content_compressed longblob',
+              'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -0,0 +1,41 @@
+-- 삭제된 지 오래된 게시글/댓글을 옮겨 두는 보관 테이블과 보관 작업의 진행 위치.
+-- Flyway 도입 전 ddl-auto=update 로 이미 만들어진 DB 가 있을 수 있으므로 없을 때만 만듭니다.
+
+CREATE TABLE IF NOT EXISTS boards_archive
+(
+    id                 bigint       NOT NULL,
+    title              varchar(255) NOT NULL,
+    content            mediumtext   NOT NULL,
+    content_compressed longblob,
+    hits               bigint       NOT NULL,
+    like_count         bigint       NOT NULL,
+    created_at         datetime(6),
+    modified_at        datetime(6),
+    deleted_at         datetime(6),
+    user_id            bigint       NOT NULL,
+    archived_at        datetime(6)  NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS comments_archive
+(
+    id          bigint       NOT NULL,
+    content     varchar(255) NOT NULL,
+    like_count  bigint       NOT NULL,
+    board_id    bigint       NOT NULL,
+    user_id     bigint       NOT NULL,
+    created_at  datetime(6),
+    modified_at datetime(6),
+    deleted_at  datetime(6),
+    archived_at datetime(6)  NOT NULL,
+    PRIMARY KEY (id),
+    INDEX idx_comments_archive_board (board_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS archive_checkpoints
+(
+    name       varchar(64) NOT NULL,
+    last_id    bigint      NOT NULL,
+    updated_at datetime(6) NOT NULL,
+    PRIMARY KEY (name)
+) ENGINE = InnoDB;
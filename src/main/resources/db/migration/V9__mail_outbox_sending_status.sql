@@ -0,0 +1,3 @@
+-- outbox 작업자가 전송하려고 가져간 메일을 표시하는 SENDING 상태를 추가합니다.
+ALTER TABLE mail_outbox
+    MODIFY status enum ('PENDING','SENDING','SENT','FAILED') NOT NULL;
@@ -0,0 +1,96 @@
+package com.sparta.springmid;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import javax.sql.DataSource;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.output.MigrateResult;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+/**
+ * ddl-auto=update 로 운영되던 DB 에 Flyway 를 처음 적용하는 경우 확인
+ * <p>
+ * Flyway 도입 전 스키마에 데이터를 넣어 두고 baseline-on-migrate 로 마이그레이션한 뒤,
+ * 빈 DB 에 V1 부터 적용한 애플리케이션 스키마(엔티티 검증을 통과한 스키마)와 컬럼/인덱스가 같은지 비교합니다.
+ */
+class LegacySchemaMigrationTest extends MySqlIntegrationTest {
+
+    private static final String COLUMNS = "SELECT table_name, column_name, column_type, is_nullable"
+            + " FROM information_schema.columns"
+            + " WHERE table_schema = ? AND table_name <> 'flyway_schema_history'"
+            + " ORDER BY table_name, column_name";
+    private static final String LOOKUP_INDEXES = "SELECT DISTINCT table_name, index_name"
+            + " FROM information_schema.statistics"
+            + " WHERE table_schema = ? AND index_name LIKE 'idx\\_%'"
+            + " ORDER BY table_name, index_name";
+
+    @Test
+    void legacySchemaMigratesToCurrentSchemaAndKeepsData() {
+        DataSource legacy = legacyDatabase("legacy_schema");
+
+        MigrateResult result = migrate(legacy);
+
+        assertThat(result.success).isTrue();
+        // root 계정이므로 애플리케이션 데이터베이스의 information_schema 도 같은 연결로 읽습니다.
+        JdbcTemplate legacyJdbc = new JdbcTemplate(legacy);
+        // V1 은 실행하지 않고 기준선으로만 표시됩니다.
+        assertThat(legacyJdbc.queryForObject(
+                "SELECT type FROM flyway_schema_history WHERE version = '1'", String.class))
+                .isEqualTo("BASELINE");
+        assertThat(legacyJdbc.queryForList(COLUMNS, "legacy_schema"))
+                .containsExactlyElementsOf(legacyJdbc.queryForList(COLUMNS, databaseName()));
+        assertThat(legacyJdbc.queryForList(LOOKUP_INDEXES, "legacy_schema"))
+                .containsExactlyElementsOf(
+                        legacyJdbc.queryForList(LOOKUP_INDEXES, databaseName()));
+
+        assertThat(legacyJdbc.queryForObject(
+                "SELECT content FROM boards WHERE title = 'legacy title'", String.class))
+                .isEqualTo("legacy content");
+        assertThat(legacyJdbc.queryForObject(
+                "SELECT COUNT(*) FROM likes WHERE content_type = 'BOARD'", Integer.class))
+                .isEqualTo(1);
+    }
+
+    @Test
+    void objectsAlreadyCreatedByDdlAutoUpdateAreLeftAsIs() {
+        DataSource legacy = legacyDatabase("legacy_partial");
+        // Flyway 도입 전에 ddl-auto=update 로 일부 변경이 먼저 배포된 DB
+        JdbcTemplate legacyJdbc = new JdbcTemplate(legacy);
+        legacyJdbc.execute("ALTER TABLE users ADD COLUMN tokens_revoked_at datetime(6)");
+        legacyJdbc.execute("CREATE TABLE refresh_tokens (id bigint NOT NULL AUTO_INCREMENT,"
+                + " token_hash varchar(64) NOT NULL, family_id varchar(36) NOT NULL,"
+                + " user_id bigint NOT NULL, expires_at datetime(6) NOT NULL, used bit NOT NULL,"
+                + " created_at datetime(6) NOT NULL, PRIMARY KEY (id)) ENGINE = InnoDB");
+
+        MigrateResult result = migrate(legacy);
+
+        assertThat(result.success).isTrue();
+        assertThat(legacyJdbc.queryForObject("SELECT COUNT(*) FROM information_schema.columns"
+                        + " WHERE table_schema = 'legacy_partial' AND table_name = 'mail_outbox'"
+                        + " AND column_name = 'status' AND column_type LIKE '%SENDING%'",
+                Integer.class)).isEqualTo(1);
+    }
+
+    private static DataSource legacyDatabase(String name) {
+        DataSource dataSource = createDatabase(name);
+        new ResourceDatabasePopulator(new ClassPathResource("db/pre-series-schema.sql"))
+                .execute(dataSource);
+        return dataSource;
+    }
+
+    /**
+     * 애플리케이션과 같은 설정(baseline-on-migrate, baseline-version=1)으로 마이그레이션합니다.
+     */
+    private static MigrateResult migrate(DataSource dataSource) {
+        return Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration")
+                .baselineOnMigrate(true)
+                .baselineVersion("1")
+                .load()
+                .migrate();
+    }
+}
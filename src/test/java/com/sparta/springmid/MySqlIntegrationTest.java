@@ -0,0 +1,92 @@
+package com.sparta.springmid;
+
+import com.sparta.springmid.product.model.User;
+import com.sparta.springmid.product.repository.UserRepository;
+import java.util.UUID;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * MySQL 컨테이너에 Flyway 로 스키마를 만들고 애플리케이션 컨텍스트를 띄우는 통합 테스트의 기반 클래스
+ * <p>
+ * 컨테이너는 JVM 에 하나만 띄워 테스트 클래스끼리 컨테이너와 스프링 컨텍스트를 함께 씁니다. Docker 가 없으면 건너뜁니다.
+ */
+@SpringBootTest
+@Testcontainers(disabledWithoutDocker = true)
+public abstract class MySqlIntegrationTest {
+
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0.36");
+
+    @Autowired
+    protected UserRepository userRepository;
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        MYSQL.start();
+        registry.add("spring.datasource.url", MYSQL::getJdbcUrl);
+        registry.add("spring.datasource.username", MYSQL::getUsername);
+        registry.add("spring.datasource.password", MYSQL::getPassword);
+        registry.add("JWT_SECRET_KEY",
+                () -> "dGVzdC1zZWNyZXQta2V5LWZvci1pbnRlZ3JhdGlvbi10ZXN0cy0wMTIzNDU2Nzg5");
+        registry.add("JWT_EXPIRATION", () -> "1209600000");
+        registry.add("MAIL_USERNAME", () -> "noreply@example.com");
+        // 메일은 테스트용 SMTP 서버(GreenMail 기본 포트)로 보냅니다.
+        registry.add("spring.mail.host", () -> "localhost");
+        registry.add("spring.mail.port", () -> "3025");
+        registry.add("spring.mail.properties.mail.smtp.auth", () -> "false");
+        registry.add("spring.mail.properties.mail.smtp.starttls.enable", () -> "false");
+        registry.add("spring.mail.properties.mail.smtp.starttls.required", () -> "false");
+        // outbox 는 테스트에서 직접 비웁니다.
+        registry.add("mail.outbox.poll-interval-ms", () -> "3600000");
+        registry.add("board.search.segment-path", () -> "build/test-data/board-search.seg");
+        registry.add("board.archive.enabled", () -> "false");
+        // 실행한 SQL 수를 확인할 수 있도록 통계를 켜고, 주기 작업은 측정 중에 끼어들지 않도록 길게 잡습니다.
+        registry.add("spring.jpa.properties.hibernate.generate_statistics", () -> "true");
+        registry.add("logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener",
+                () -> "WARN");
+        registry.add("board.hits.flush-interval-ms", () -> "3600000");
+        registry.add("board.count.refresh-interval-ms", () -> "3600000");
+        registry.add("jwt.revocation.purge-interval-ms", () -> "3600000");
+    }
+
+    /**
+     * 같은 컨테이너에 빈 데이터베이스를 새로 만듭니다. 마이그레이션 자체를 확인하는 테스트에서 씁니다.
+     *
+     * @param name 데이터베이스 이름, 이미 있으면 지우고 다시 만듭니다.
+     * @return root 계정으로 그 데이터베이스에 연결하는 DataSource
+     */
+    protected static DataSource createDatabase(String name) {
+        DataSource root = new DriverManagerDataSource(MYSQL.getJdbcUrl(), "root",
+                MYSQL.getPassword());
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(root);
+        jdbcTemplate.execute("DROP DATABASE IF EXISTS " + name);
+        jdbcTemplate.execute("CREATE DATABASE " + name);
+        return new DriverManagerDataSource(
+                MYSQL.getJdbcUrl().replace("/" + MYSQL.getDatabaseName(), "/" + name), "root",
+                MYSQL.getPassword());
+    }
+
+    /**
+     * 애플리케이션이 쓰는 데이터베이스 이름
+     */
+    protected static String databaseName() {
+        return MYSQL.getDatabaseName();
+    }
+
+    /**
+     * 테스트마다 겹치지 않는 아이디로 유저를 저장합니다.
+     */
+    protected User saveUser() {
+        String name = "u" + UUID.randomUUID().toString().substring(0, 8);
+        User user = new User();
+        user.serUserInfo(name, name, "password", name + "@example.com", null);
+        return userRepository.save(user);
+    }
+}
@@ -0,0 +1,70 @@
+package com.sparta.springmid.global.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.GreenMailUtil;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import com.sparta.springmid.MySqlIntegrationTest;
+import com.sparta.springmid.global.enums.MailStatusEnum;
+import com.sparta.springmid.product.model.MailOutbox;
+import com.sparta.springmid.product.repository.MailOutboxRepository;
+import jakarta.mail.internet.MimeMessage;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+
+class MailOutboxWorkerTest extends MySqlIntegrationTest {
+
+    @RegisterExtension
+    static final GreenMailExtension SMTP = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    @Autowired
+    private MailManager mailManager;
+
+    @Autowired
+    private MailOutboxWorker mailOutboxWorker;
+
+    @Autowired
+    private MailOutboxRepository mailOutboxRepository;
+
+    @Test
+    void sendsQueuedMailOverSmtpAndMarksItSent() throws Exception {
+        String to = UUID.randomUUID() + "@example.com";
+        mailManager.send(to, "인증 코드", "123456");
+
+        mailOutboxWorker.drain();
+
+        assertThat(SMTP.waitForIncomingEmail(5000, 1)).isTrue();
+        MimeMessage[] received = SMTP.getReceivedMessagesForDomain(to);
+        assertThat(received).hasSize(1);
+        assertThat(received[0].getSubject()).isEqualTo("인증 코드");
+        assertThat(GreenMailUtil.getBody(received[0])).contains("123456");
+
+        MailOutbox mail = mailOutboxRepository.findAll().stream()
+                .filter(m -> m.getToAddress().equals(to))
+                .findFirst().orElseThrow();
+        assertThat(mail.getStatus()).isEqualTo(MailStatusEnum.SENT);
+        assertThat(mail.getAttempts()).isEqualTo(1);
+    }
+
+    @Test
+    void unreachableSmtpLeavesMailPendingForRetry() {
+        String to = UUID.randomUUID() + "@example.com";
+        mailManager.send(to, "인증 코드", "654321");
+        SMTP.stop();
+        try {
+            mailOutboxWorker.drain();
+        } finally {
+            SMTP.start();
+        }
+
+        MailOutbox mail = mailOutboxRepository.findAll().stream()
+                .filter(m -> m.getToAddress().equals(to))
+                .findFirst().orElseThrow();
+        assertThat(mail.getStatus()).isEqualTo(MailStatusEnum.PENDING);
+        assertThat(mail.getAttempts()).isEqualTo(1);
+        assertThat(mail.getLastError()).isNotNull();
+    }
+}
@@ -0,0 +1,100 @@
+package com.sparta.springmid.global.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.security.SignatureException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class HmacJwtCodecTest {
+
+    private static final byte[] KEY = key("first-signing-key");
+    private static final byte[] OTHER_KEY = key("second-signing-key");
+    private static final long NOW = 1_700_000_000_000L;
+
+    private final HmacJwtCodec codec = new HmacJwtCodec("", KEY, Map.of());
+
+    @Test
+    void verifiesWhatItSigns() {
+        TokenClaims claims = new TokenClaims("user1", "ROLE_USER", 7L, "ACTIVE", "jti-1",
+                NOW / 1000, NOW / 1000 + 1800);
+
+        TokenClaims verified = codec.verify(codec.sign(claims), NOW);
+
+        assertThat(verified).usingRecursiveComparison().isEqualTo(claims);
+    }
+
+    @Test
+    void escapesStringClaims() {
+        TokenClaims claims = new TokenClaims("a\"b\\c\n한글", null, null, null, null,
+                NOW / 1000, NOW / 1000 + 60);
+
+        assertThat(codec.verify(codec.sign(claims), NOW).getSubject())
+                .isEqualTo("a\"b\\c\n한글");
+    }
+
+    @Test
+    void rejectsTokenSignedWithAnotherKey() {
+        String token = new HmacJwtCodec("", OTHER_KEY, Map.of()).sign(claims(60));
+
+        assertThatThrownBy(() -> codec.verify(token, NOW))
+                .isInstanceOf(SignatureException.class);
+    }
+
+    @Test
+    void rejectsTamperedPayload() {
+        String token = codec.sign(claims(60));
+        String[] parts = token.split("\\.");
+        String forged = new HmacJwtCodec("", OTHER_KEY, Map.of()).sign(
+                new TokenClaims("admin", "ROLE_ADMIN", 1L, "ACTIVE", null, NOW / 1000,
+                        NOW / 1000 + 60)).split("\\.")[1];
+
+        assertThatThrownBy(() -> codec.verify(parts[0] + "." + forged + "." + parts[2], NOW))
+                .isInstanceOf(SignatureException.class);
+    }
+
+    @Test
+    void rejectsExpiredToken() {
+        String token = codec.sign(claims(60));
+
+        assertThatThrownBy(() -> codec.verify(token, NOW + 61_000))
+                .isInstanceOf(ExpiredJwtException.class);
+    }
+
+    @Test
+    void rejectsMalformedToken() {
+        assertThatThrownBy(() -> codec.verify("not-a-token", NOW))
+                .isInstanceOf(MalformedJwtException.class);
+        assertThatThrownBy(() -> codec.verify("", NOW))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void verifiesTokensOfPreviousKeyAfterRotation() {
+        HmacJwtCodec before = new HmacJwtCodec("k1", KEY, Map.of());
+        HmacJwtCodec after = new HmacJwtCodec("k2", OTHER_KEY, Map.of("k1", KEY));
+        String token = before.sign(claims(60));
+
+        assertThat(after.verify(token, NOW).getSubject()).isEqualTo("user1");
+        assertThatThrownBy(() -> new HmacJwtCodec("k2", OTHER_KEY, Map.of()).verify(token, NOW))
+                .isInstanceOf(SignatureException.class);
+    }
+
+    private static TokenClaims claims(long ttlSeconds) {
+        return new TokenClaims("user1", "ROLE_USER", 7L, "ACTIVE", null, NOW / 1000,
+                NOW / 1000 + ttlSeconds);
+    }
+
+    private static byte[] key(String seed) {
+        byte[] key = new byte[32];
+        byte[] bytes = seed.getBytes(StandardCharsets.UTF_8);
+        for (int i = 0; i < key.length; i++) {
+            key[i] = bytes[i % bytes.length];
+        }
+        return key;
+    }
+}
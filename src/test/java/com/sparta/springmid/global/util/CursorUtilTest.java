@@ -0,0 +1,47 @@
+package com.sparta.springmid.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+class CursorUtilTest {
+
+    @Test
+    void decodesWhatItEncodes() {
+        String cursor = CursorUtil.encode("recent", "2024-05-01T10:15:30.123456", "42");
+
+        assertThat(CursorUtil.decode(cursor, "recent", 2))
+                .containsExactly("2024-05-01T10:15:30.123456", "42");
+    }
+
+    @Test
+    void cursorIsUrlSafe() {
+        String cursor = CursorUtil.encode("date", "2024-05-01T00:00", "2024-05-31T23:59",
+                "2024-05-10T12:00", "999999999");
+
+        assertThat(cursor).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    void rejectsCursorOfAnotherType() {
+        String cursor = CursorUtil.encode("like", "10", "42");
+
+        assertThatThrownBy(() -> CursorUtil.decode(cursor, "recent", 2))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void rejectsWrongNumberOfValues() {
+        String cursor = CursorUtil.encode("recent", "2024-05-01T10:15:30");
+
+        assertThatThrownBy(() -> CursorUtil.decode(cursor, "recent", 2))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void rejectsNonBase64Cursor() {
+        assertThatThrownBy(() -> CursorUtil.decode("%%%", "recent", 2))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
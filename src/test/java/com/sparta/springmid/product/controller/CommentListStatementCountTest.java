@@ -0,0 +1,102 @@
+package com.sparta.springmid.product.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.sparta.springmid.MySqlIntegrationTest;
+import jakarta.persistence.EntityManagerFactory;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * 댓글 목록 조회가 실행하는 SQL 수 확인
+ * <p>
+ * 버전 조회(게시글 확인 포함) 한 번과 목록 조회 한 번이며, 댓글 수가 늘어도 그대로여야 합니다.
+ */
+@AutoConfigureMockMvc
+class CommentListStatementCountTest extends MySqlIntegrationTest {
+
+    private static final LocalDateTime AT = LocalDateTime.of(2020, 4, 1, 9, 0);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private long userId;
+    private long boardId;
+
+    @BeforeEach
+    void seed() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        userId = saveUser().getId();
+        jdbcTemplate.update("INSERT INTO boards (title, content, hits, like_count, created_at,"
+                        + " modified_at, user_id) VALUES ('t', 'c', 0, 0, ?, ?, ?)",
+                Timestamp.valueOf(AT), Timestamp.valueOf(AT), userId);
+        boardId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM boards WHERE user_id = ?",
+                Long.class, userId);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM comments WHERE board_id = ?", boardId);
+        jdbcTemplate.update("DELETE FROM boards WHERE id = ?", boardId);
+    }
+
+    @Test
+    void listRunsTwoStatementsRegardlessOfCommentCount() throws Exception {
+        insertComments(3);
+        assertThat(countStatements(3)).isEqualTo(2);
+
+        insertComments(30);
+        assertThat(countStatements(33)).isEqualTo(2);
+    }
+
+    @Test
+    void notModifiedRunsOnlyTheVersionQuery() throws Exception {
+        insertComments(3);
+        String etag = mockMvc.perform(get("/api/boards/{boardId}/comments", boardId))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        statistics.clear();
+        mockMvc.perform(get("/api/boards/{boardId}/comments", boardId)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    private long countStatements(int expectedComments) throws Exception {
+        statistics.clear();
+        mockMvc.perform(get("/api/boards/{boardId}/comments", boardId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(expectedComments));
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void insertComments(int count) {
+        for (int i = 0; i < count; i++) {
+            jdbcTemplate.update("INSERT INTO comments (content, like_count, board_id, user_id,"
+                            + " created_at, modified_at) VALUES ('c', 0, ?, ?, ?, ?)",
+                    boardId, userId, Timestamp.valueOf(AT), Timestamp.valueOf(AT));
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.sparta.springmid.product.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sparta.springmid.MySqlIntegrationTest;
+import com.sparta.springmid.product.dto.BoardResponseDto;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 최신순 커서의 경계 확인, 작성일자가 같은 게시글은 id 로 순서를 정해 누락이나 중복 없이 이어져야 합니다.
+ * <p>
+ * 다른 테스트의 게시글보다 앞서도록 아주 오래된 작성일자로 넣고, 그 시각을 기준으로 조회합니다.
+ */
+class BoardRepositoryCursorTest extends MySqlIntegrationTest {
+
+    private static final LocalDateTime AT = LocalDateTime.of(2001, 1, 1, 12, 0);
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private long userId;
+    private final List<Long> sameTime = new ArrayList<>();
+    private long earlier;
+
+    @BeforeEach
+    void seed() {
+        userId = saveUser().getId();
+        for (int i = 0; i < 5; i++) {
+            sameTime.add(insert(AT, null));
+        }
+        // 삭제된 게시글은 커서 사이에 끼어 있어도 건너뜁니다.
+        insert(AT, AT);
+        earlier = insert(AT.minusMinutes(1), null);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM boards WHERE user_id = ?", userId);
+    }
+
+    @Test
+    void nextPageStartsBelowCursorAmongEqualTimestamps() {
+        List<Long> ids = ids(boardRepository.findRecentAfter(AT, sameTime.get(2),
+                PageRequest.of(0, 10)));
+
+        assertThat(ids).containsExactly(sameTime.get(1), sameTime.get(0), earlier);
+    }
+
+    @Test
+    void pagingThroughTiesNeitherSkipsNorRepeats() {
+        List<Long> seen = new ArrayList<>();
+        LocalDateTime createdAt = AT;
+        long id = Long.MAX_VALUE;
+        List<BoardResponseDto> page;
+        do {
+            page = boardRepository.findRecentAfter(createdAt, id, PageRequest.of(0, 2));
+            for (BoardResponseDto board : page) {
+                seen.add(board.getId());
+                createdAt = board.getCreateAt();
+                id = board.getId();
+            }
+        } while (!page.isEmpty());
+
+        List<Long> expected = new ArrayList<>(sameTime);
+        Collections.reverse(expected);
+        expected.add(earlier);
+        assertThat(seen).containsExactlyElementsOf(expected);
+    }
+
+    private long insert(LocalDateTime createdAt, LocalDateTime deletedAt) {
+        jdbcTemplate.update("INSERT INTO boards (title, content, hits, like_count, created_at,"
+                        + " modified_at, deleted_at, user_id) VALUES ('t', 'c', 0, 0, ?, ?, ?, ?)",
+                Timestamp.valueOf(createdAt), Timestamp.valueOf(createdAt),
+                deletedAt == null ? null : Timestamp.valueOf(deletedAt), userId);
+        return jdbcTemplate.queryForObject("SELECT MAX(id) FROM boards WHERE user_id = ?",
+                Long.class, userId);
+    }
+
+    private static List<Long> ids(List<BoardResponseDto> boards) {
+        return boards.stream().map(BoardResponseDto::getId).toList();
+    }
+}
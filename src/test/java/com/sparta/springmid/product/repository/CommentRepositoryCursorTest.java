@@ -0,0 +1,128 @@
+package com.sparta.springmid.product.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.sparta.springmid.MySqlIntegrationTest;
+import com.sparta.springmid.global.util.CursorUtil;
+import com.sparta.springmid.product.dto.CommentResponseDto;
+import com.sparta.springmid.product.dto.CursorPageResponseDto;
+import com.sparta.springmid.product.service.CommentService;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 댓글 커서의 경계 확인, 작성일자가 같은 댓글은 id 로 순서를 정해 누락이나 중복 없이 이어져야 합니다.
+ */
+class CommentRepositoryCursorTest extends MySqlIntegrationTest {
+
+    private static final LocalDateTime AT = LocalDateTime.of(2020, 5, 1, 12, 0, 0, 123_456_000);
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private long userId;
+    private long boardId;
+    private final List<Long> sameTime = new ArrayList<>();
+    private long earlier;
+
+    @BeforeEach
+    void seed() {
+        userId = saveUser().getId();
+        jdbcTemplate.update("INSERT INTO boards (title, content, hits, like_count, created_at,"
+                        + " modified_at, user_id) VALUES ('t', 'c', 0, 0, ?, ?, ?)",
+                Timestamp.valueOf(AT), Timestamp.valueOf(AT), userId);
+        boardId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM boards WHERE user_id = ?",
+                Long.class, userId);
+        for (int i = 0; i < 5; i++) {
+            sameTime.add(insert(AT, null));
+        }
+        // 삭제된 댓글은 커서 사이에 끼어 있어도 건너뜁니다.
+        insert(AT, AT);
+        earlier = insert(AT.minusNanos(1_000), null);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM comments WHERE board_id = ?", boardId);
+        jdbcTemplate.update("DELETE FROM boards WHERE id = ?", boardId);
+    }
+
+    @Test
+    void nextPageStartsBelowCursorAmongEqualTimestamps() {
+        List<Long> ids = ids(commentRepository.findPageAfter(boardId, AT, sameTime.get(2),
+                PageRequest.of(0, 10)));
+
+        assertThat(ids).containsExactly(sameTime.get(1), sameTime.get(0), earlier);
+    }
+
+    @Test
+    void lastCommentHasNothingAfterIt() {
+        assertThat(commentRepository.findPageAfter(boardId, AT.minusNanos(1_000), earlier,
+                PageRequest.of(0, 10))).isEmpty();
+    }
+
+    @Test
+    void deletedBoardHasNoPages() {
+        jdbcTemplate.update("UPDATE boards SET deleted_at = ? WHERE id = ?",
+                Timestamp.valueOf(AT), boardId);
+
+        assertThat(commentRepository.findPageFirst(boardId, PageRequest.of(0, 10))).isEmpty();
+    }
+
+    @Test
+    void pagingWithNextCursorNeitherSkipsNorRepeats() {
+        List<Long> seen = new ArrayList<>();
+        String cursor = null;
+        CursorPageResponseDto<CommentResponseDto> page;
+        do {
+            page = commentService.getCommentsByCursor(boardId, cursor, 2);
+            seen.addAll(ids(page.getContent()));
+            cursor = page.getNextCursor();
+        } while (page.isHasNext());
+
+        List<Long> expected = new ArrayList<>(sameTime);
+        Collections.reverse(expected);
+        expected.add(earlier);
+        assertThat(seen).containsExactlyElementsOf(expected);
+        assertThat(cursor).isNull();
+    }
+
+    @Test
+    void cursorOfAnotherKindIsRejected() {
+        String boardCursor = CursorUtil.encode("recent", AT.toString(), "1");
+
+        assertThatThrownBy(() -> commentService.getCommentsByCursor(boardId, boardCursor, 2))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> commentService.getCommentsByCursor(boardId, "not-a-cursor", 2))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private long insert(LocalDateTime createdAt, LocalDateTime deletedAt) {
+        jdbcTemplate.update("INSERT INTO comments (content, like_count, board_id, user_id,"
+                        + " created_at, modified_at, deleted_at) VALUES ('c', 0, ?, ?, ?, ?, ?)",
+                boardId, userId, Timestamp.valueOf(createdAt), Timestamp.valueOf(createdAt),
+                deletedAt == null ? null : Timestamp.valueOf(deletedAt));
+        return jdbcTemplate.queryForObject("SELECT MAX(id) FROM comments WHERE board_id = ?",
+                Long.class, boardId);
+    }
+
+    private static List<Long> ids(List<CommentResponseDto> comments) {
+        return comments.stream().map(CommentResponseDto::getId).toList();
+    }
+}
@@ -0,0 +1,175 @@
+package com.sparta.springmid.product.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sparta.springmid.MySqlIntegrationTest;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 자주 실행되는 조회가 V2 마이그레이션의 인덱스를 타는지 EXPLAIN 으로 확인합니다.
+ * <p>
+ * 옵티마이저는 행 수를 보고 실행 계획을 고르므로, 피드 몇 페이지 분량보다 넉넉한 데이터를 넣고 통계를 갱신한 뒤 확인합니다.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryPlanTest extends MySqlIntegrationTest {
+
+    private static final int BOARDS = 3000;
+    private static final int BOARDS_WITH_COMMENTS = 30;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private long userId;
+    private long firstBoardId;
+    private final LocalDateTime now = LocalDateTime.now().withNano(0);
+
+    @BeforeAll
+    void seed() {
+        Timestamp created = Timestamp.valueOf(now);
+        jdbcTemplate.update("INSERT INTO users (created_at, modified_at, username, nickname,"
+                        + " password, email, status, expired)"
+                        + " VALUES (?, ?, 'plan-user', 'plan-user', 'x', 'plan@example.com',"
+                        + " 'ACTIVE', 0)",
+                created, created);
+        userId = jdbcTemplate.queryForObject(
+                "SELECT id FROM users WHERE username = 'plan-user'", Long.class);
+
+        List<Object[]> boards = new ArrayList<>(BOARDS);
+        for (int i = 0; i < BOARDS; i++) {
+            Timestamp at = Timestamp.valueOf(now.minusMinutes(i));
+            // 열 개 중 하나는 삭제된 게시글
+            Timestamp deletedAt = i % 10 == 0 ? created : null;
+            boards.add(new Object[]{"title " + i, "content " + i, i % 50, at, at, deletedAt,
+                    userId});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO boards (title, content, hits, like_count,"
+                + " created_at, modified_at, deleted_at, user_id)"
+                + " VALUES (?, ?, 0, ?, ?, ?, ?, ?)", boards);
+        firstBoardId = jdbcTemplate.queryForObject(
+                "SELECT MIN(id) FROM boards WHERE user_id = ?", Long.class, userId);
+
+        List<Object[]> comments = new ArrayList<>();
+        List<Object[]> likes = new ArrayList<>();
+        for (int i = 0; i < BOARDS; i++) {
+            long boardId = firstBoardId + 1 + i % BOARDS_WITH_COMMENTS;
+            Timestamp at = Timestamp.valueOf(now.minusSeconds(i));
+            comments.add(new Object[]{"comment " + i, boardId, userId, at, at});
+            likes.add(new Object[]{firstBoardId + i, i % 2 == 0 ? "BOARD" : "COMMENT", at,
+                    userId});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO comments (content, like_count, board_id, user_id,"
+                + " created_at, modified_at) VALUES (?, 0, ?, ?, ?, ?)", comments);
+        jdbcTemplate.batchUpdate("INSERT INTO likes (content_id, content_type, created_at,"
+                + " user_id) VALUES (?, ?, ?, ?)", likes);
+
+        jdbcTemplate.execute("ANALYZE TABLE users, boards, comments, likes");
+    }
+
+    @AfterAll
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM likes WHERE user_id = ?", userId);
+        jdbcTemplate.update("DELETE FROM comments WHERE user_id = ?", userId);
+        jdbcTemplate.update("DELETE FROM boards WHERE user_id = ?", userId);
+        jdbcTemplate.update("DELETE FROM users WHERE id = ?", userId);
+    }
+
+    @Test
+    void recentFeedReadsCreatedIndexInOrder() {
+        Map<String, Object> plan = explain("boards", "SELECT id FROM boards"
+                + " WHERE deleted_at IS NULL ORDER BY created_at DESC, id DESC LIMIT 11");
+
+        assertIndex(plan, "idx_boards_deleted_created");
+        assertNoFilesort(plan);
+    }
+
+    @Test
+    void recentCursorSeeksCreatedIndex() {
+        Timestamp at = Timestamp.valueOf(now.minusMinutes(BOARDS / 2));
+        Map<String, Object> plan = explain("boards", "SELECT id FROM boards"
+                        + " WHERE deleted_at IS NULL"
+                        + " AND (created_at < ? OR (created_at = ? AND id < ?))"
+                        + " ORDER BY created_at DESC, id DESC LIMIT 11",
+                at, at, firstBoardId + BOARDS / 2);
+
+        assertIndex(plan, "idx_boards_deleted_created");
+        assertNoFilesort(plan);
+    }
+
+    @Test
+    void dayBucketRangeUsesCreatedIndex() {
+        LocalDateTime from = now.minusHours(3);
+        Map<String, Object> plan = explain("boards", "SELECT id FROM boards"
+                        + " WHERE deleted_at IS NULL AND created_at >= ? AND created_at < ?"
+                        + " ORDER BY created_at DESC, id DESC",
+                Timestamp.valueOf(from), Timestamp.valueOf(from.plusHours(1)));
+
+        assertIndex(plan, "idx_boards_deleted_created");
+        assertNoFilesort(plan);
+    }
+
+    @Test
+    void likesFeedReadsLikeIndexInOrder() {
+        Map<String, Object> plan = explain("boards", "SELECT id FROM boards"
+                + " WHERE deleted_at IS NULL ORDER BY like_count DESC, id DESC LIMIT 11");
+
+        assertIndex(plan, "idx_boards_deleted_like");
+        assertNoFilesort(plan);
+    }
+
+    @Test
+    void commentListReadsBoardIndexInOrder() {
+        Map<String, Object> plan = explain("c", "SELECT c.id FROM comments c"
+                        + " JOIN boards b ON b.id = c.board_id"
+                        + " WHERE b.id = ? AND b.deleted_at IS NULL AND c.deleted_at IS NULL"
+                        + " ORDER BY c.created_at DESC, c.id DESC LIMIT 21",
+                firstBoardId + 1);
+
+        assertIndex(plan, "idx_comments_board_deleted_created");
+        assertNoFilesort(plan);
+    }
+
+    @Test
+    void likeToggleUsesUserContentIndex() {
+        Map<String, Object> plan = explain("likes", "SELECT id FROM likes"
+                        + " WHERE user_id = ? AND content_id = ? AND content_type = 'BOARD'",
+                userId, firstBoardId);
+
+        assertIndex(plan, "idx_likes_user_content");
+    }
+
+    @Test
+    void loginLookupDoesNotScanUsers() {
+        Map<String, Object> plan = explain("users", "SELECT id FROM users"
+                + " WHERE username = 'plan-user' AND status = 'ACTIVE'");
+
+        // username 에는 유니크 인덱스도 있으므로 둘 중 어느 쪽이든 인덱스로 찾으면 됩니다.
+        assertThat(plan.get("key")).isNotNull();
+        assertThat(plan.get("type")).isNotEqualTo("ALL");
+    }
+
+    private Map<String, Object> explain(String table, String sql, Object... args) {
+        return jdbcTemplate.queryForList("EXPLAIN " + sql, args).stream()
+                .filter(row -> table.equals(row.get("table")))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("no plan row for " + table));
+    }
+
+    private static void assertIndex(Map<String, Object> plan, String index) {
+        assertThat(plan.get("key")).as("plan %s", plan).isEqualTo(index);
+    }
+
+    private static void assertNoFilesort(Map<String, Object> plan) {
+        assertThat(String.valueOf(plan.get("Extra"))).as("plan %s", plan)
+                .doesNotContain("Using filesort");
+    }
+}
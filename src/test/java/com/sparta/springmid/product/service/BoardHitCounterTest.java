@@ -0,0 +1,70 @@
+package com.sparta.springmid.product.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.sparta.springmid.product.dto.BoardResponseDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+class BoardHitCounterTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final BoardReadCache boardReadCache = new BoardReadCache(100, 60,
+            new SimpleMeterRegistry());
+    private final BoardHitCounter hitCounter = new BoardHitCounter(jdbcTemplate, boardReadCache);
+
+    @Test
+    void flushKeepsCachedBoardAndAddsFlushedHits() {
+        boardReadCache.get(1L, id -> board(id, 10));
+        hitCounter.increment(1L);
+        hitCounter.increment(1L);
+        hitCounter.increment(1L);
+
+        hitCounter.flush();
+
+        assertThat(boardReadCache.getIfPresent(1L)).isNotNull()
+                .extracting(BoardResponseDto::getHits).isEqualTo(13L);
+        assertThat(hitCounter.getPending(1L)).isZero();
+    }
+
+    @Test
+    void boardReloadedDuringFlushIsInvalidatedInsteadOfCountedTwice() {
+        boardReadCache.get(1L, id -> board(id, 10));
+        hitCounter.increment(1L);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenAnswer(invocation -> {
+            // 반영 중에 다른 요청이 이미 반영된 값으로 다시 읽어 캐시를 교체한 경우
+            boardReadCache.invalidate(1L);
+            boardReadCache.get(1L, id -> board(id, 11));
+            return new int[]{1};
+        });
+
+        hitCounter.flush();
+
+        assertThat(boardReadCache.getIfPresent(1L)).isNull();
+    }
+
+    @Test
+    void failedFlushKeepsHitsPending() {
+        boardReadCache.get(1L, id -> board(id, 10));
+        hitCounter.increment(1L);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .thenThrow(new DataAccessResourceFailureException("down"));
+
+        hitCounter.flush();
+
+        assertThat(hitCounter.getPending(1L)).isEqualTo(1);
+        assertThat(boardReadCache.getIfPresent(1L).getHits()).isEqualTo(10L);
+    }
+
+    private static BoardResponseDto board(Long id, long hits) {
+        LocalDateTime now = LocalDateTime.now();
+        return new BoardResponseDto(id, "t", "c", null, hits, 0L, now, now);
+    }
+}
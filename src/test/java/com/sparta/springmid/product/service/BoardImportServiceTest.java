@@ -0,0 +1,45 @@
+package com.sparta.springmid.product.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sparta.springmid.MySqlIntegrationTest;
+import com.sparta.springmid.product.dto.BoardImportResponseDto;
+import com.sparta.springmid.product.dto.BoardRequestDto;
+import com.sparta.springmid.product.model.User;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+class BoardImportServiceTest extends MySqlIntegrationTest {
+
+    @Autowired
+    private BoardImportService boardImportService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void importsBodiesLongerThanTheOldColumnBelowCompressionThreshold() {
+        User user = saveUser();
+        // 압축 기준(1024 바이트)보다 짧아 압축하지 않고 content 에 그대로 저장되는 본문
+        String content = "가나다라마바사아자차".repeat(30);
+
+        BoardImportResponseDto result = boardImportService.importBoards(user,
+                List.of(request("plain", content), request("", "missing title")));
+
+        assertThat(result.getImported()).isEqualTo(1);
+        assertThat(result.getErrors()).extracting(BoardImportResponseDto.RowError::index)
+                .containsExactly(1);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT content FROM boards WHERE user_id = ?", String.class, user.getId()))
+                .isEqualTo(content);
+    }
+
+    private static BoardRequestDto request(String title, String content) {
+        BoardRequestDto request = new BoardRequestDto();
+        request.setTitle(title);
+        request.setContent(content);
+        return request;
+    }
+}
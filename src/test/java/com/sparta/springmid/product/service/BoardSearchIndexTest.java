@@ -0,0 +1,66 @@
+package com.sparta.springmid.product.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.sparta.springmid.product.repository.BoardRepository;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class BoardSearchIndexTest {
+
+    private static final LocalDateTime MODIFIED_AT = LocalDateTime.of(2024, 5, 1, 12, 0, 0);
+
+    private final BoardRepository boardRepository = mock(BoardRepository.class);
+    private final PlatformTransactionManager transactionManager = mock(
+            PlatformTransactionManager.class);
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void longWordIsTruncated() {
+        Map<String, Integer> terms = BoardSearchIndex.termFrequencies("x".repeat(100_000), null);
+
+        assertThat(terms).containsOnlyKeys("x".repeat(BoardSearchIndex.MAX_TERM_LENGTH));
+    }
+
+    @Test
+    void segmentWithHugeContentSurvivesRestart() throws Exception {
+        Path segment = dir.resolve("board-search.seg");
+        String hugeWord = "가".repeat(40_000) + " " + "a".repeat(70_000);
+
+        BoardSearchIndex index = new BoardSearchIndex(boardRepository, transactionManager,
+                segment.toString());
+        index.indexAfterCommit(1L, "hello world", hugeWord, MODIFIED_AT);
+        index.persist();
+        assertThat(segment).exists();
+        assertThat(Files.size(segment)).isPositive();
+
+        when(boardRepository.streamLiveVersions()).thenAnswer(
+                invocation -> Stream.<Object[]>of(new Object[]{1L, MODIFIED_AT}));
+        BoardSearchIndex restarted = new BoardSearchIndex(boardRepository, transactionManager,
+                segment.toString());
+        restarted.initialize();
+
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (restarted.size() == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(restarted.search("world", 10)).containsExactly(1L);
+        assertThat(restarted.search("a".repeat(70_000), 10)).containsExactly(1L);
+        verify(boardRepository, never()).streamAllResponses();
+        verify(boardRepository, never()).findResponsesByIdIn(any());
+    }
+}
@@ -0,0 +1,97 @@
+package com.sparta.springmid.product.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sparta.springmid.MySqlIntegrationTest;
+import com.sparta.springmid.product.repository.CommentRepository;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 댓글 목록의 ETag 는 응답 본문이 바뀌는 모든 변경에 함께 바뀌어야 합니다.
+ */
+class CommentListVersionTest extends MySqlIntegrationTest {
+
+    private static final LocalDateTime AT = LocalDateTime.of(2020, 3, 1, 9, 0);
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private long userId;
+    private long boardId;
+    private long older;
+    private long newer;
+
+    @BeforeEach
+    void seed() {
+        userId = saveUser().getId();
+        jdbcTemplate.update("INSERT INTO boards (title, content, hits, like_count, created_at,"
+                        + " modified_at, user_id) VALUES ('t', 'c', 0, 0, ?, ?, ?)",
+                Timestamp.valueOf(AT), Timestamp.valueOf(AT), userId);
+        boardId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM boards WHERE user_id = ?",
+                Long.class, userId);
+        older = insertComment(AT.plusMinutes(1), 1);
+        newer = insertComment(AT.plusMinutes(2), 0);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM comments WHERE board_id = ?", boardId);
+        jdbcTemplate.update("DELETE FROM boards WHERE id = ?", boardId);
+    }
+
+    @Test
+    void etagChangesWhenOlderCommentIsDeletedAndAnotherAdded() {
+        String before = commentService.getCommentsVersion(boardId).getEtag();
+
+        // 개수와 수정시간 최댓값은 그대로지만 목록은 다릅니다.
+        jdbcTemplate.update("UPDATE comments SET deleted_at = ? WHERE id = ?",
+                Timestamp.valueOf(AT.plusMinutes(3)), older);
+        insertComment(AT.plusMinutes(2), 1);
+
+        assertThat(commentService.getCommentsVersion(boardId).getEtag()).isNotEqualTo(before);
+    }
+
+    @Test
+    void etagChangesWhenLikeMovesBetweenComments() {
+        String before = commentService.getCommentsVersion(boardId).getEtag();
+
+        // 좋아요 합계는 그대로지만 댓글별 좋아요 수는 다릅니다.
+        transactionTemplate.executeWithoutResult(status -> {
+            commentRepository.decrementLikeCount(older);
+            commentRepository.incrementLikeCount(newer);
+        });
+
+        assertThat(commentService.getCommentsVersion(boardId).getEtag()).isNotEqualTo(before);
+    }
+
+    @Test
+    void etagIsStableWithoutChanges() {
+        assertThat(commentService.getCommentsVersion(boardId).getEtag())
+                .isEqualTo(commentService.getCommentsVersion(boardId).getEtag())
+                .startsWith("\"");
+    }
+
+    private long insertComment(LocalDateTime at, long likeCount) {
+        jdbcTemplate.update("INSERT INTO comments (content, like_count, board_id, user_id,"
+                        + " created_at, modified_at) VALUES ('c', ?, ?, ?, ?, ?)",
+                likeCount, boardId, userId, Timestamp.valueOf(at), Timestamp.valueOf(at));
+        return jdbcTemplate.queryForObject("SELECT MAX(id) FROM comments WHERE board_id = ?",
+                Long.class, boardId);
+    }
+}
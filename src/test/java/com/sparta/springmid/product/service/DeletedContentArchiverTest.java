@@ -0,0 +1,126 @@
+package com.sparta.springmid.product.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sparta.springmid.MySqlIntegrationTest;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 삭제된 게시글 하나에 댓글과 좋아요가 많아도 묶음 크기만큼씩 나눠 옮기는지 확인합니다.
+ * <p>
+ * 다른 테스트의 데이터를 건드리지 않도록 아주 오래전에 삭제된 행만 대상이 되게 보관 기간을 잡습니다.
+ */
+class DeletedContentArchiverTest extends MySqlIntegrationTest {
+
+    private static final LocalDateTime DELETED_AT = LocalDateTime.of(2001, 1, 1, 0, 0);
+    private static final int CHUNK_SIZE = 2;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private long userId;
+    private long likerId;
+    private long boardId;
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.update("DELETE FROM archive_checkpoints");
+        userId = saveUser().getId();
+        likerId = saveUser().getId();
+        jdbcTemplate.update("INSERT INTO boards (title, content, hits, like_count, created_at,"
+                        + " modified_at, deleted_at, user_id) VALUES ('t', 'c', 0, 3, ?, ?, ?, ?)",
+                Timestamp.valueOf(DELETED_AT), Timestamp.valueOf(DELETED_AT),
+                Timestamp.valueOf(DELETED_AT), userId);
+        boardId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM boards WHERE user_id = ?",
+                Long.class, userId);
+        // 게시글만 삭제되고 댓글은 살아 있는 경우 (게시글 삭제는 댓글을 지우지 않습니다)
+        for (int i = 0; i < 5; i++) {
+            jdbcTemplate.update("INSERT INTO comments (content, like_count, board_id, user_id,"
+                            + " created_at, modified_at) VALUES ('c', 1, ?, ?, ?, ?)",
+                    boardId, userId, Timestamp.valueOf(DELETED_AT), Timestamp.valueOf(DELETED_AT));
+            long commentId = jdbcTemplate.queryForObject(
+                    "SELECT MAX(id) FROM comments WHERE board_id = ?", Long.class, boardId);
+            like(commentId, "COMMENT");
+        }
+        for (int i = 0; i < 3; i++) {
+            like(boardId, "BOARD");
+        }
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM likes WHERE user_id = ?", likerId);
+        jdbcTemplate.update("DELETE FROM comments WHERE board_id = ?", boardId);
+        jdbcTemplate.update("DELETE FROM boards WHERE id = ?", boardId);
+        jdbcTemplate.update("DELETE FROM likes_archive WHERE user_id = ?", likerId);
+        jdbcTemplate.update("DELETE FROM comments_archive WHERE board_id = ?", boardId);
+        jdbcTemplate.update("DELETE FROM boards_archive WHERE id = ?", boardId);
+        jdbcTemplate.update("DELETE FROM archive_checkpoints");
+    }
+
+    @Test
+    void movesBoardWithItsCommentsAndLikesInChunks() {
+        archiver(100).archive();
+
+        assertThat(count("SELECT COUNT(*) FROM boards WHERE id = ?", boardId)).isZero();
+        assertThat(count("SELECT COUNT(*) FROM comments WHERE board_id = ?", boardId)).isZero();
+        assertThat(count("SELECT COUNT(*) FROM likes WHERE user_id = ?", likerId)).isZero();
+        assertThat(count("SELECT COUNT(*) FROM boards_archive WHERE id = ?", boardId)).isOne();
+        assertThat(count("SELECT COUNT(*) FROM comments_archive WHERE board_id = ?", boardId))
+                .isEqualTo(5);
+        assertThat(count("SELECT COUNT(*) FROM likes_archive WHERE user_id = ?", likerId))
+                .isEqualTo(8);
+    }
+
+    @Test
+    void oneChunkMovesAtMostChunkSizeRowsAndResumesFromCheckpoint() {
+        archiver(1).archive();
+
+        // 첫 묶음은 게시글 좋아요 두 개뿐이고, 게시글은 댓글이 남아 있으므로 아직 옮기지 않습니다.
+        assertThat(count("SELECT COUNT(*) FROM likes_archive WHERE user_id = ?", likerId))
+                .isEqualTo(CHUNK_SIZE);
+        assertThat(count("SELECT COUNT(*) FROM comments_archive WHERE board_id = ?", boardId))
+                .isZero();
+        assertThat(count("SELECT COUNT(*) FROM boards WHERE id = ?", boardId)).isOne();
+
+        archiver(1).archive();
+        assertThat(count("SELECT COUNT(*) FROM likes_archive WHERE user_id = ?", likerId))
+                .isEqualTo(3);
+
+        for (int run = 0; run < 20; run++) {
+            archiver(1).archive();
+        }
+        assertThat(count("SELECT COUNT(*) FROM boards WHERE id = ?", boardId)).isZero();
+        assertThat(count("SELECT COUNT(*) FROM comments_archive WHERE board_id = ?", boardId))
+                .isEqualTo(5);
+    }
+
+    private DeletedContentArchiver archiver(int maxChunksPerRun) {
+        // 2001 년에 삭제된 행은 대상, 그 뒤에 삭제된 다른 테스트의 행은 대상이 아닙니다.
+        long retentionDays = ChronoUnit.DAYS.between(LocalDate.of(2005, 1, 1), LocalDate.now());
+        return new DeletedContentArchiver(jdbcTemplate, transactionTemplate, true, retentionDays,
+                CHUNK_SIZE, 0, maxChunksPerRun);
+    }
+
+    private void like(long contentId, String contentType) {
+        jdbcTemplate.update("INSERT INTO likes (content_id, content_type, created_at, user_id)"
+                        + " VALUES (?, ?, ?, ?)", contentId, contentType,
+                Timestamp.valueOf(DELETED_AT), likerId);
+    }
+
+    private long count(String sql, long id) {
+        return jdbcTemplate.queryForObject(sql, Long.class, id);
+    }
+}
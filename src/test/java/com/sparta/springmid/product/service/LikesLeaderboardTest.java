@@ -0,0 +1,101 @@
+package com.sparta.springmid.product.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.sparta.springmid.product.repository.BoardRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class LikesLeaderboardTest {
+
+    private final BoardRepository boardRepository = mock(BoardRepository.class);
+    private LikesLeaderboard leaderboard;
+
+    @BeforeEach
+    void setUp() {
+        leaderboard = new LikesLeaderboard(boardRepository, 10, new SimpleMeterRegistry());
+        when(boardRepository.findTopLikeCounts(any())).thenReturn(
+                List.<Object[]>of(new Object[]{2L, 5L}));
+        leaderboard.rebuild();
+    }
+
+    @Test
+    void slowQueryForOneBoardDoesNotBlockAnother() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(boardRepository.findLikeCountById(1L)).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return Optional.of(7L);
+        });
+        when(boardRepository.findLikeCountById(3L)).thenReturn(Optional.of(6L));
+
+        CompletableFuture<Void> slow = CompletableFuture.runAsync(
+                () -> leaderboard.likeCountChanged(1L));
+        CompletableFuture.runAsync(() -> leaderboard.likeCountChanged(3L))
+                .get(Duration.ofSeconds(2).toMillis(), TimeUnit.MILLISECONDS);
+        release.countDown();
+        slow.get(5, TimeUnit.SECONDS);
+
+        assertThat(leaderboard.page(0, 10)).get()
+                .extracting(LikesLeaderboard.LeaderboardPage::boardIds)
+                .isEqualTo(List.of(1L, 3L, 2L));
+    }
+
+    @Test
+    void olderReadAppliedLateDoesNotOverwriteNewerOne() throws Exception {
+        CountDownLatch firstReadDone = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        when(boardRepository.findLikeCountById(1L)).thenAnswer(invocation -> {
+            if (calls.incrementAndGet() == 1) {
+                firstReadDone.countDown();
+                release.await(5, TimeUnit.SECONDS);
+                return Optional.of(4L); // 먼저 시작했지만 늦게 반영되는 조회
+            }
+            return Optional.of(6L);
+        });
+
+        CompletableFuture<Void> stale = CompletableFuture.runAsync(
+                () -> leaderboard.likeCountChanged(1L));
+        firstReadDone.await(5, TimeUnit.SECONDS);
+        leaderboard.likeCountChanged(1L);
+        release.countDown();
+        stale.get(5, TimeUnit.SECONDS);
+
+        assertThat(leaderboard.page(0, 10)).get()
+                .extracting(LikesLeaderboard.LeaderboardPage::boardIds)
+                .isEqualTo(List.of(1L, 2L));
+    }
+
+    @Test
+    void deletedBoardIsNotRestoredByEarlierRead() throws Exception {
+        CountDownLatch readStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(boardRepository.findLikeCountById(2L)).thenAnswer(invocation -> {
+            readStarted.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return Optional.of(8L);
+        });
+
+        CompletableFuture<Void> stale = CompletableFuture.runAsync(
+                () -> leaderboard.likeCountChanged(2L));
+        readStarted.await(5, TimeUnit.SECONDS);
+        leaderboard.boardDeleted(2L);
+        release.countDown();
+        stale.get(5, TimeUnit.SECONDS);
+
+        assertThat(leaderboard.page(0, 10)).get()
+                .extracting(LikesLeaderboard.LeaderboardPage::boardIds)
+                .isEqualTo(List.of());
+    }
+}
@@ -0,0 +1,74 @@
+package com.sparta.springmid.product.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.sparta.springmid.MySqlIntegrationTest;
+import com.sparta.springmid.global.util.SHA256Util;
+import com.sparta.springmid.product.repository.RefreshTokenRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+class RefreshTokenServiceTest extends MySqlIntegrationTest {
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Test
+    void reusingTokenRevokesFamily() {
+        String token = UUID.randomUUID().toString();
+        refreshTokenService.issue(saveUser(), token);
+
+        refreshTokenService.use(token);
+
+        assertThatThrownBy(() -> refreshTokenService.use(token))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(refreshTokenRepository.findWithUserByTokenHash(SHA256Util.hash(token)))
+                .isEmpty();
+    }
+
+    @Test
+    void concurrentReissueWithSameTokenSucceedsOnce() throws Exception {
+        String token = UUID.randomUUID().toString();
+        refreshTokenService.issue(saveUser(), token);
+
+        int threads = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        refreshTokenService.use(token);
+                        return true;
+                    } catch (IllegalArgumentException e) {
+                        return false;
+                    }
+                }));
+            }
+            start.countDown();
+
+            int succeeded = 0;
+            for (Future<Boolean> result : results) {
+                if (result.get()) {
+                    succeeded++;
+                }
+            }
+            assertThat(succeeded).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
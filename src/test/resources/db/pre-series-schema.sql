@@ -0,0 +1,20 @@
+-- Flyway 도입 전 ddl-auto=update 가 만든 스키마를 그대로 옮긴 것 (제약 조건 이름도 Hibernate 가 만든 형식).
+create table users (expired bit not null, created_at datetime(6) not null, deleted_at datetime(6), id bigint not null auto_increment, modified_at datetime(6) not null, email varchar(255) not null, info varchar(255), nickname varchar(255) not null, password varchar(255) not null, refresh_token varchar(255), status enum ('DELETED','ACTIVE','VERYFICATION') not null, username varchar(255) not null, primary key (id)) engine=InnoDB;
+create table boards (created_at datetime(6), deleted_at datetime(6), hits bigint not null, id bigint not null auto_increment, like_count bigint not null, modified_at datetime(6), user_id bigint not null, content varchar(255) not null, title varchar(255) not null, primary key (id)) engine=InnoDB;
+create table comments (board_id bigint not null, created_at datetime(6) not null, deleted_at datetime(6), id bigint not null auto_increment, like_count bigint not null, modified_at datetime(6) not null, user_id bigint not null, content varchar(255) not null, primary key (id)) engine=InnoDB;
+create table likes (content_id bigint not null, created_at datetime(6) not null, id bigint not null auto_increment, user_id bigint not null, content_type enum ('BOARD','COMMENT') not null, primary key (id)) engine=InnoDB;
+create table api_use_time (id bigint not null auto_increment, total_time bigint not null, user_id bigint not null, primary key (id)) engine=InnoDB;
+alter table users add constraint UK_r43af9ap4edm43mmtq01oddj6 unique (username);
+alter table users add constraint UK_2ty1xmrrgtn89xt7kyxx6ta7h unique (nickname);
+alter table users add constraint UK_6dotkott2kjsp8vw4d0m25fb7 unique (email);
+alter table api_use_time add constraint UK_9t3p4j6xk0m4yq8l8d2o1p2ha unique (user_id);
+alter table boards add constraint FKk9j1kt6y4w4pf7cl1wkq3vvbr foreign key (user_id) references users (id);
+alter table comments add constraint FKn2na60ukhs76ibtpt9burkm27 foreign key (board_id) references boards (id);
+alter table comments add constraint FK8omq0tc18jd43bu5tjh6jvraq foreign key (user_id) references users (id);
+alter table likes add constraint FKi2wo4dyk4rok7v4kak8sgkwx0 foreign key (user_id) references users (id);
+alter table api_use_time add constraint FKq7v2f6ibd5j8yvu8w7kqf3w1n foreign key (user_id) references users (id);
+
+insert into users (expired, created_at, modified_at, email, nickname, password, refresh_token, status, username) values (0, '2024-06-01 10:00:00', '2024-06-01 10:00:00', 'legacy@example.com', 'legacy', 'password', 'Bearer old-token', 'ACTIVE', 'legacy');
+insert into boards (created_at, hits, like_count, modified_at, user_id, content, title) values ('2024-06-02 10:00:00', 3, 1, '2024-06-02 10:00:00', 1, 'legacy content', 'legacy title');
+insert into comments (board_id, created_at, like_count, modified_at, user_id, content) values (1, '2024-06-02 11:00:00', 0, '2024-06-02 11:00:00', 1, 'legacy comment');
+insert into likes (content_id, created_at, user_id, content_type) values (1, '2024-06-02 12:00:00', 1, 'BOARD');